@@ -0,0 +1,50 @@
+package com.example.financialSystem.configs;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class ThreadingConfig {
+    private static final Logger log = LoggerFactory.getLogger(ThreadingConfig.class);
+
+    @Bean
+    public Executor priceFetchExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                       @Value("${price.client.executor-threads:4}") int platformThreads) {
+        return newExecutor("price-fetch-", virtualThreads, platformThreads);
+    }
+
+    // HttpClient completions must not share a pool with tasks that block on them
+    @Bean
+    public Executor priceHttpExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                      @Value("${price.client.http-threads:2}") int platformThreads) {
+        return newExecutor("price-http-", virtualThreads, platformThreads);
+    }
+
+    public static boolean virtualThreadsSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    public static Executor newExecutor(String threadNamePrefix, boolean virtualThreads, int platformThreads) {
+        if (virtualThreads && virtualThreadsSupported()) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+
+        if (virtualThreads) {
+            log.warn("Virtual threads requested on Java {}, falling back to {} platform threads for {}",
+                    Runtime.version().feature(), platformThreads, threadNamePrefix);
+        }
+
+        return Executors.newFixedThreadPool(Math.max(1, platformThreads),
+                new CustomizableThreadFactory(threadNamePrefix));
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.financialSystem.configs.idempotency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+public class IdempotencyStore {
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final int maxEntries;
+    private final long waitTimeoutMs;
+
+    public enum Outcome {
+        ACQUIRED, REPLAY, MISMATCH, IN_PROGRESS
+    }
+
+    public record StoredResponse(int status, String contentType, byte[] body) {
+    }
+
+    public record Claim(Outcome outcome, StoredResponse response, Entry entry) {
+    }
+
+    public record Entry(String requestHash, CompletableFuture<StoredResponse> response, Instant expiresAt) {
+        boolean isFresh(Instant now) {
+            return expiresAt.isAfter(now);
+        }
+
+        boolean isCompleted() {
+            return response.isDone() && response.getNow(null) != null;
+        }
+    }
+
+    public IdempotencyStore(@Value("${idempotency.ttl-seconds:86400}") long ttlSeconds,
+                            @Value("${idempotency.max-entries:10000}") int maxEntries,
+                            @Value("${idempotency.wait-timeout-ms:10000}") long waitTimeoutMs) {
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.maxEntries = Math.max(1, maxEntries);
+        this.waitTimeoutMs = waitTimeoutMs;
+    }
+
+    public Claim claim(String key, String requestHash) {
+        while (true) {
+            Instant now = Instant.now();
+            Entry existing = entries.get(key);
+
+            if (existing == null || !existing.isFresh(now)) {
+                Entry acquired = new Entry(requestHash, new CompletableFuture<>(), now.plus(ttl));
+                boolean won = existing == null
+                        ? entries.putIfAbsent(key, acquired) == null
+                        : entries.replace(key, existing, acquired);
+
+                if (won) {
+                    evictIfFull(now);
+                    return new Claim(Outcome.ACQUIRED, null, acquired);
+                }
+                continue;
+            }
+
+            if (!existing.requestHash().equals(requestHash)) {
+                return new Claim(Outcome.MISMATCH, null, existing);
+            }
+
+            StoredResponse response;
+            try {
+                response = existing.response().get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                return new Claim(Outcome.IN_PROGRESS, null, existing);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new Claim(Outcome.IN_PROGRESS, null, existing);
+            } catch (ExecutionException e) {
+                response = null;
+            }
+
+            if (response != null) {
+                return new Claim(Outcome.REPLAY, response, existing);
+            }
+        }
+    }
+
+    public void complete(String key, Entry entry, StoredResponse response) {
+        Entry completed = new Entry(entry.requestHash(), CompletableFuture.completedFuture(response),
+                Instant.now().plus(ttl));
+
+        entries.replace(key, entry, completed);
+        entry.response().complete(response);
+    }
+
+    public void release(String key, Entry entry) {
+        entries.remove(key, entry);
+        entry.response().complete(null);
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.sweep-interval-ms:60000}")
+    public void sweepExpired() {
+        Instant now = Instant.now();
+        entries.values().removeIf(entry -> entry.isCompleted() && !entry.isFresh(now));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictIfFull(Instant now) {
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+
+        entries.values().removeIf(entry -> entry.isCompleted() && !entry.isFresh(now));
+
+        while (entries.size() > maxEntries) {
+            Map.Entry<String, Entry> oldest = entries.entrySet().stream()
+                    .filter(candidate -> candidate.getValue().isCompleted())
+                    .min(Comparator.comparing(candidate -> candidate.getValue().expiresAt()))
+                    .orElse(null);
+
+            if (oldest == null) {
+                return;
+            }
+
+            entries.remove(oldest.getKey(), oldest.getValue());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.financialSystem.configs.security;
+
+import com.example.financialSystem.models.entity.Login;
+import com.example.financialSystem.models.entity.User;
+import com.example.financialSystem.models.enums.UserRole;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+public class PrincipalCache {
+    private final Map<PrincipalKey, CachedPrincipal> principals;
+    private final Duration ttl;
+
+    public record PrincipalKey(String subject, Instant issuedAt) {
+    }
+
+    public record Principal(UUID userId, String username, UserRole role) {
+        public static Principal of(Login login) {
+            return new Principal(login.getUser().getId(), login.getUsername(), login.getUser().getUserRole());
+        }
+
+        public Login toLogin() {
+            User user = new User();
+            user.setId(userId);
+            user.setEmail(username);
+            user.setUserRole(role);
+            user.setDeleted(Boolean.FALSE);
+
+            Login login = new Login();
+            login.setUser(user);
+            login.setUsername(username);
+            user.setLogin(login);
+
+            return login;
+        }
+    }
+
+    private record CachedPrincipal(Principal principal, Instant expiresAt) {
+        boolean isFresh(Instant now) {
+            return expiresAt.isAfter(now);
+        }
+    }
+
+    public PrincipalCache(@Value("${security.principal-cache.ttl-seconds:60}") long ttlSeconds,
+                          @Value("${security.principal-cache.max-size:10000}") int maxSize) {
+        int capacity = Math.max(1, maxSize);
+
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.principals = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PrincipalKey, CachedPrincipal> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public synchronized Optional<Principal> get(PrincipalKey key) {
+        CachedPrincipal cached = principals.get(key);
+
+        if (cached == null) {
+            return Optional.empty();
+        }
+
+        if (!cached.isFresh(Instant.now())) {
+            principals.remove(key);
+            return Optional.empty();
+        }
+
+        return Optional.of(cached.principal());
+    }
+
+    public synchronized void put(PrincipalKey key, Principal principal) {
+        principals.put(key, new CachedPrincipal(principal, Instant.now().plus(ttl)));
+    }
+
+    public synchronized void evictUser(UUID userId) {
+        principals.values().removeIf(cached -> userId.equals(cached.principal().userId()));
+    }
+
+    public synchronized int size() {
+        return principals.size();
+    }
+}
@@ -1,6 +1,10 @@
 package com.example.financialSystem.configs.security;
 
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.financialSystem.models.entity.Login;
+import com.example.financialSystem.models.enums.UserRole;
 import com.example.financialSystem.repositories.LoginRepository;
+import com.example.financialSystem.repositories.UserRepository;
 import com.example.financialSystem.services.TokenService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -13,12 +17,16 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 public class SecurityFilter extends OncePerRequestFilter {
 
     private final LoginRepository loginRepository;
+    private final UserRepository userRepository;
     private final TokenService tokenService;
+    private final PrincipalCache principalCache;
 
     private static final List<String> PUBLIC_PATHS = List.of(
             "/auth/login",
@@ -27,9 +35,12 @@ public class SecurityFilter extends OncePerRequestFilter {
             "/auth/logout"
     );
 
-    public SecurityFilter(LoginRepository loginRepository, TokenService tokenService) {
+    public SecurityFilter(LoginRepository loginRepository, UserRepository userRepository,
+                          TokenService tokenService, PrincipalCache principalCache) {
         this.loginRepository = loginRepository;
+        this.userRepository = userRepository;
         this.tokenService = tokenService;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -63,16 +74,41 @@ public class SecurityFilter extends OncePerRequestFilter {
     }
 
     private void authenticateUser(String token) {
-        String email = tokenService.validateToken(token);
-        if (email != null) {
-            loginRepository.findByUsername(email).ifPresent(user -> {
-                if (!user.isEnabled()) {
-                    return;
-                }
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            });
+        DecodedJWT decoded = tokenService.verifyToken(token);
+        if (decoded == null || decoded.getSubject() == null) {
+            return;
+        }
+
+        PrincipalCache.PrincipalKey key = new PrincipalCache.PrincipalKey(decoded.getSubject(), decoded.getIssuedAtAsInstant());
+
+        Optional<PrincipalCache.Principal> principal = principalCache.get(key);
+        if (principal.isEmpty()) {
+            principal = resolvePrincipal(decoded);
+            principal.ifPresent(resolved -> principalCache.put(key, resolved));
+        }
+
+        principal.map(PrincipalCache.Principal::toLogin).ifPresent(user -> {
+            UsernamePasswordAuthenticationToken authentication =
+                    new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+        });
+    }
+
+    private Optional<PrincipalCache.Principal> resolvePrincipal(DecodedJWT decoded) {
+        String userId = decoded.getClaim(TokenService.USER_ID_CLAIM).asString();
+        String role = decoded.getClaim(TokenService.ROLE_CLAIM).asString();
+
+        if (userId == null || role == null || decoded.getIssuedAtAsInstant() == null) {
+            return loginRepository.findByUsername(decoded.getSubject())
+                    .filter(Login::isEnabled)
+                    .map(PrincipalCache.Principal::of);
         }
+
+        UUID id = UUID.fromString(userId);
+        if (!userRepository.existsByIdAndDeletedFalse(id)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new PrincipalCache.Principal(id, decoded.getSubject(), UserRole.valueOf(role)));
     }
 }
@@ -5,19 +5,14 @@ import com.example.financialSystem.models.dto.requests.LoginRequest;
 import com.example.financialSystem.models.dto.requests.RefreshTokenRequest;
 import com.example.financialSystem.models.dto.responses.LoginResponse;
 import com.example.financialSystem.models.dto.responses.RefreshTokenResponse;
-import com.example.financialSystem.models.entity.RefreshToken;
-import com.example.financialSystem.models.entity.User;
 import com.example.financialSystem.services.AuthService;
 import com.example.financialSystem.services.RefreshTokenService;
-import com.example.financialSystem.services.TokenService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -32,15 +27,12 @@ public class AuthController {
 
     private final AuthService authService;
     private final RefreshTokenService refreshTokenService;
-    private final TokenService tokenService;
 
     public AuthController(AuthService authService,
-                          RefreshTokenService refreshTokenService,
-                          TokenService tokenService
+                          RefreshTokenService refreshTokenService
                           ) {
         this.authService = authService;
         this.refreshTokenService = refreshTokenService;
-        this.tokenService = tokenService;
     }
 
     @PostMapping(value = "/login")
@@ -64,21 +56,14 @@ public class AuthController {
 
 
     @PostMapping("/refresh")
-    @Operation(summary = "Refresh access token", description = "Generates a new access token using the refresh token. Only for users without Remember Me.")
+    @Operation(summary = "Refresh access token", description = "Rotates the refresh token and returns a new access token. Reusing a rotated refresh token revokes its whole family.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tokens rotated",
+                    content = @Content(schema = @Schema(implementation = RefreshTokenResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Refresh token invalid, expired, revoked or reused",
+                    content = @Content(schema = @Schema(implementation = ExceptionDetails.class)))
+    })
     public ResponseEntity<RefreshTokenResponse> refreshToken(@Valid @RequestBody RefreshTokenRequest request) {
-        RefreshToken refreshToken = refreshTokenService.findByToken(request.refreshToken())
-                .orElseThrow(() -> new RuntimeException("Refresh token is not in database!"));
-
-        refreshTokenService.verifyExpiration(refreshToken);
-
-        User user = refreshToken.getUser();
-        String newAccessToken = tokenService.generateToken(user.getLogin());
-        RefreshTokenResponse newRefreshToken = refreshTokenService.createRefreshToken(user.getId());
-
-        return ResponseEntity.ok(new RefreshTokenResponse(
-                newAccessToken,
-                newRefreshToken.refreshToken(),
-                "Bearer"
-        ));
+        return ResponseEntity.ok(refreshTokenService.rotate(request.refreshToken()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.example.financialSystem.controllers;
+
+import com.example.financialSystem.models.dto.responses.ChangeFeedResponse;
+import com.example.financialSystem.services.FinancialOutboxService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/changes")
+@Tag(name = "Change Feed", description = "Ordered feed of expense, cost and investment changes")
+public class ChangeFeedController {
+
+    private final FinancialOutboxService financialOutboxService;
+
+    public ChangeFeedController(FinancialOutboxService financialOutboxService) {
+        this.financialOutboxService = financialOutboxService;
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "List changes after an offset (Admin)", description = "Returns published create, update, delete and restore events with an offset greater than the given one, in offset order. Pass the returned nextOffset to continue syncing.")
+    @ApiResponse(responseCode = "200", description = "Page of change events retrieved")
+    public ResponseEntity<ChangeFeedResponse> getChanges(
+            @Parameter(description = "Last offset already consumed") @RequestParam(defaultValue = "0") long after,
+            @Parameter(description = "Maximum number of events to return") @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok().body(financialOutboxService.changesAfter(after, limit));
+    }
+}
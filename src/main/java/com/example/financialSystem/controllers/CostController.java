@@ -4,19 +4,24 @@ import com.example.financialSystem.exceptions.handlers.ExceptionDetails;
 import com.example.financialSystem.models.dto.requests.CostPatchRequest;
 import com.example.financialSystem.models.dto.requests.CostRequest;
 import com.example.financialSystem.models.dto.responses.CostResponse;
+import com.example.financialSystem.models.dto.responses.CursorPageResponse;
 import com.example.financialSystem.services.CostService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/cost")
@@ -48,14 +53,14 @@ public class CostController {
             @ApiResponse(responseCode = "404", description = "Cost not found",
                     content = @Content(schema = @Schema(implementation = ExceptionDetails.class)))
     })
-    public ResponseEntity<CostResponse> getCost(@PathVariable int id) {
+    public ResponseEntity<CostResponse> getCost(@PathVariable UUID id) {
         return ResponseEntity.ok().body(costService.getCostById(id));
     }
 
     @PutMapping(value = "/edit/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Update cost", description = "Updates all information for an existing cost.")
     @ApiResponse(responseCode = "200", description = "Cost updated successfully")
-    public ResponseEntity<CostResponse> editCost(@PathVariable int id, @Valid @RequestBody CostRequest costRequest) {
+    public ResponseEntity<CostResponse> editCost(@PathVariable UUID id, @Valid @RequestBody CostRequest costRequest) {
         return ResponseEntity.ok().body(costService.updateCost(id, costRequest));
     }
 
@@ -73,17 +78,51 @@ public class CostController {
         return ResponseEntity.ok().body(costService.listAllCost());
     }
 
+    @GetMapping(value = "/list/me/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "List my costs by page", description = "Returns a keyset-paginated page of the current user's costs ordered by date. Pass the returned nextCursor to fetch the following page.")
+    @ApiResponse(responseCode = "200", description = "Page of user costs retrieved")
+    public ResponseEntity<CursorPageResponse<CostResponse>> getCostPageByUser(
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of costs per page") @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok().body(costService.listCostPage(cursor, size));
+    }
+
+    @GetMapping(value = "/list/all/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "List all costs by page (Admin)", description = "Returns a keyset-paginated page of all costs ordered by date.")
+    @ApiResponse(responseCode = "200", description = "Page of costs retrieved")
+    public ResponseEntity<CursorPageResponse<CostResponse>> getCostPage(
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of costs per page") @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok().body(costService.listAllCostPage(cursor, size));
+    }
+
+    @GetMapping(value = "/list/me/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Stream my costs", description = "Streams every cost of the current user as a JSON array, reading rows from a database cursor.")
+    @ApiResponse(responseCode = "200", description = "User costs streamed")
+    public void streamCostByUser(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        costService.streamCost(response.getOutputStream());
+    }
+
+    @GetMapping(value = "/list/all/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Stream all costs (Admin)", description = "Streams every active cost as a JSON array, reading rows from a database cursor.")
+    @ApiResponse(responseCode = "200", description = "All costs streamed")
+    public void streamAllCost(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        costService.streamAllCost(response.getOutputStream());
+    }
+
     @PatchMapping(value = "/patch/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Partial update cost", description = "Updates specific attributes of a cost record.")
     @ApiResponse(responseCode = "200", description = "Cost patched successfully")
-    public ResponseEntity<CostResponse> patchCost(@PathVariable int id, @Valid @RequestBody CostPatchRequest costRequest) {
+    public ResponseEntity<CostResponse> patchCost(@PathVariable UUID id, @Valid @RequestBody CostPatchRequest costRequest) {
         return ResponseEntity.ok().body(costService.patchCost(id, costRequest));
     }
 
     @PutMapping("/activate/{id}")
     @Operation(summary = "Activate cost", description = "Reactivates a cost entry that was previously disabled.")
     @ApiResponse(responseCode = "200", description = "Cost activated successfully")
-    public ResponseEntity<String> activateCost(@PathVariable int id) {
+    public ResponseEntity<String> activateCost(@PathVariable UUID id) {
         costService.activateCost(id);
         return ResponseEntity.ok().body("Cost activated with id: " + id);
     }
@@ -91,7 +130,7 @@ public class CostController {
     @DeleteMapping("/delete/{id}")
     @Operation(summary = "Delete cost", description = "Removes or deactivates a cost entry from the system.")
     @ApiResponse(responseCode = "200", description = "Cost successfully deleted")
-    public ResponseEntity<String> deleteCost(@PathVariable int id) {
+    public ResponseEntity<String> deleteCost(@PathVariable UUID id) {
         costService.deleteCost(id);
         return ResponseEntity.ok().body("Cost with id " + id + " successfully deleted");
     }
@@ -3,19 +3,28 @@ package com.example.financialSystem.controllers;
 import com.example.financialSystem.exceptions.handlers.ExceptionDetails;
 import com.example.financialSystem.models.dto.requests.ExpensePatchRequest;
 import com.example.financialSystem.models.dto.requests.ExpenseRequest;
+import com.example.financialSystem.models.dto.responses.CursorPageResponse;
 import com.example.financialSystem.models.dto.responses.ExpenseResponse;
+import com.example.financialSystem.models.dto.responses.ImportResponse;
+import com.example.financialSystem.services.ExpenseImportService;
 import com.example.financialSystem.services.ExpenseService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/expense")
@@ -23,9 +32,11 @@ import java.util.List;
 public class ExpenseController {
 
     private final ExpenseService expenseService;
+    private final ExpenseImportService expenseImportService;
 
-    public ExpenseController(ExpenseService expenseService) {
+    public ExpenseController(ExpenseService expenseService, ExpenseImportService expenseImportService) {
         this.expenseService = expenseService;
+        this.expenseImportService = expenseImportService;
     }
 
     @PostMapping(value = "/create")
@@ -40,6 +51,22 @@ public class ExpenseController {
         return ResponseEntity.ok().body(expenseService.createExpense(expenseRequest));
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Import expenses", description = "Creates expenses in bulk from a JSON array. Invalid and duplicate rows are reported without aborting the import.")
+    @ApiResponse(responseCode = "200", description = "Import processed",
+            content = @Content(schema = @Schema(implementation = ImportResponse.class)))
+    public ResponseEntity<ImportResponse> importExpenses(@RequestBody List<ExpenseRequest> expenseRequests) {
+        return ResponseEntity.ok().body(expenseImportService.importExpenses(expenseRequests));
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @Operation(summary = "Import expenses from CSV", description = "Creates expenses in bulk from CSV with the header expenseType,value,dateFinancial,description,baseCurrency,paymentMethod,isFixed.")
+    @ApiResponse(responseCode = "200", description = "Import processed",
+            content = @Content(schema = @Schema(implementation = ImportResponse.class)))
+    public ResponseEntity<ImportResponse> importExpensesCsv(@RequestBody String csv) throws IOException {
+        return ResponseEntity.ok().body(expenseImportService.importExpensesCsv(new StringReader(csv)));
+    }
+
     @PutMapping(value = "/edit/{id}")
     @Operation(summary = "Update expense", description = "Updates all fields of an existing expense.")
     @ApiResponses(value = {
@@ -47,7 +74,7 @@ public class ExpenseController {
             @ApiResponse(responseCode = "404", description = "Expense not found",
                     content = @Content(schema = @Schema(implementation = ExceptionDetails.class)))
     })
-    public ResponseEntity<ExpenseResponse> editExpense(@PathVariable int id, @Valid @RequestBody ExpenseRequest expenseRequest) {
+    public ResponseEntity<ExpenseResponse> editExpense(@PathVariable UUID id, @Valid @RequestBody ExpenseRequest expenseRequest) {
         return ResponseEntity.ok().body(expenseService.updateExpense(id, expenseRequest));
     }
 
@@ -58,7 +85,7 @@ public class ExpenseController {
             @ApiResponse(responseCode = "404", description = "Expense not found",
                     content = @Content(schema = @Schema(implementation = ExceptionDetails.class)))
     })
-    public ResponseEntity<ExpenseResponse> getExpense(@PathVariable int id) {
+    public ResponseEntity<ExpenseResponse> getExpense(@PathVariable UUID id) {
         return ResponseEntity.ok().body(expenseService.getExpenseById(id));
     }
 
@@ -76,13 +103,47 @@ public class ExpenseController {
         return ResponseEntity.ok().body(expenseService.listAllExpense());
     }
 
+    @GetMapping(value = "/list/me/page")
+    @Operation(summary = "List my expenses by page", description = "Returns a keyset-paginated page of the authenticated user's expenses ordered by date. Pass the returned nextCursor to fetch the following page.")
+    @ApiResponse(responseCode = "200", description = "Page of user expenses retrieved")
+    public ResponseEntity<CursorPageResponse<ExpenseResponse>> getExpensePageByUser(
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of expenses per page") @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok().body(expenseService.listExpensePage(cursor, size));
+    }
+
+    @GetMapping(value = "/list/all/page")
+    @Operation(summary = "List all expenses by page (Admin)", description = "Returns a keyset-paginated page of all expenses ordered by date. Requires administrative privileges.")
+    @ApiResponse(responseCode = "200", description = "Page of expenses retrieved")
+    public ResponseEntity<CursorPageResponse<ExpenseResponse>> getExpensePage(
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of expenses per page") @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok().body(expenseService.listAllExpensePage(cursor, size));
+    }
+
+    @GetMapping(value = "/list/me/stream")
+    @Operation(summary = "Stream my expenses", description = "Streams every expense of the authenticated user as a JSON array, reading rows from a database cursor.")
+    @ApiResponse(responseCode = "200", description = "User expenses streamed")
+    public void streamExpenseByUser(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        expenseService.streamExpense(response.getOutputStream());
+    }
+
+    @GetMapping(value = "/list/all/stream")
+    @Operation(summary = "Stream all expenses (Admin)", description = "Streams every active expense as a JSON array, reading rows from a database cursor. Requires administrative privileges.")
+    @ApiResponse(responseCode = "200", description = "All expenses streamed")
+    public void streamAllExpense(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        expenseService.streamAllExpense(response.getOutputStream());
+    }
+
     @PatchMapping(value = "/patch/{id}")
     @Operation(summary = "Partial update expense", description = "Updates specific fields of an expense.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Expense patched successfully"),
             @ApiResponse(responseCode = "404", description = "Expense not found")
     })
-    public ResponseEntity<ExpenseResponse> patchExpense(@PathVariable int id, @Valid @RequestBody ExpensePatchRequest patchRequest) {
+    public ResponseEntity<ExpenseResponse> patchExpense(@PathVariable UUID id, @Valid @RequestBody ExpensePatchRequest patchRequest) {
         return ResponseEntity.ok().body(expenseService.patchExpense(id, patchRequest));
     }
 
@@ -92,7 +153,7 @@ public class ExpenseController {
             @ApiResponse(responseCode = "200", description = "Expense activated successfully"),
             @ApiResponse(responseCode = "404", description = "Expense not found")
     })
-    public ResponseEntity<String> activateExpense(@PathVariable int id) {
+    public ResponseEntity<String> activateExpense(@PathVariable UUID id) {
         expenseService.activateExpense(id);
         return ResponseEntity.ok("Expense activated with id: " + id);
     }
@@ -103,7 +164,7 @@ public class ExpenseController {
             @ApiResponse(responseCode = "200", description = "Expense successfully deleted"),
             @ApiResponse(responseCode = "404", description = "Expense not found")
     })
-    public ResponseEntity<String> deleteExpense(@PathVariable int id) {
+    public ResponseEntity<String> deleteExpense(@PathVariable UUID id) {
         expenseService.deleteExpense(id);
         return ResponseEntity.ok("Expense successfully deleted");
     }
@@ -0,0 +1,41 @@
+package com.example.financialSystem.controllers;
+
+import com.example.financialSystem.models.enums.ExportFormat;
+import com.example.financialSystem.services.FinancialExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/export")
+@Tag(name = "Export", description = "Bulk export of the authenticated user's financial history")
+public class ExportController {
+
+    private final FinancialExportService financialExportService;
+
+    public ExportController(FinancialExportService financialExportService) {
+        this.financialExportService = financialExportService;
+    }
+
+    @GetMapping(value = "/me")
+    @Operation(summary = "Export my financial history", description = "Streams every expense, cost and investment of the authenticated user, including deleted ones, as gzip CSV or gzip columnar binary.")
+    @ApiResponse(responseCode = "200", description = "Financial history exported")
+    public void exportMine(
+            @Parameter(description = "CSV or COLUMNAR")
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            HttpServletResponse response) throws IOException {
+        response.setContentType("application/gzip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"financial-history" + format.getExtension() + "\"");
+        financialExportService.exportMine(format, response.getOutputStream());
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.financialSystem.controllers;
+
+import com.example.financialSystem.models.dto.responses.MonthlySummaryResponse;
+import com.example.financialSystem.models.dto.responses.MonthlyTotalResponse;
+import com.example.financialSystem.services.FinancialSummaryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+@RestController
+@RequestMapping("/summary")
+@Tag(name = "Summary", description = "Aggregated totals of the authenticated user's financial records")
+public class FinancialSummaryController {
+
+    private final FinancialSummaryService financialSummaryService;
+
+    public FinancialSummaryController(FinancialSummaryService financialSummaryService) {
+        this.financialSummaryService = financialSummaryService;
+    }
+
+    @GetMapping(value = "/monthly")
+    @Operation(summary = "Monthly totals", description = "Returns expense and cost totals grouped by month, type and currency. Defaults to the last 12 months.")
+    @ApiResponse(responseCode = "200", description = "Monthly totals retrieved",
+            content = @Content(schema = @Schema(implementation = MonthlySummaryResponse.class)))
+    public ResponseEntity<MonthlySummaryResponse> getMonthlySummary(
+            @Parameter(description = "First day included (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day included (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok().body(financialSummaryService.getMonthlySummary(from, to));
+    }
+
+    @GetMapping(value = "/balance")
+    @Operation(summary = "Monthly balance", description = "Returns the maintained per-month totals by financial type and currency. Defaults to the last 12 months.")
+    @ApiResponse(responseCode = "200", description = "Monthly balance retrieved")
+    public ResponseEntity<List<MonthlyTotalResponse>> getMonthlyBalance(
+            @Parameter(description = "First month included (yyyy-MM)")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @Parameter(description = "Last month included (yyyy-MM)")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        return ResponseEntity.ok().body(financialSummaryService.getMonthlyBalance(from, to));
+    }
+}
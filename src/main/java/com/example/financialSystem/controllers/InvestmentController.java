@@ -3,7 +3,10 @@ package com.example.financialSystem.controllers;
 import com.example.financialSystem.exceptions.handlers.ExceptionDetails;
 import com.example.financialSystem.models.dto.requests.InvestmentPatchRequest;
 import com.example.financialSystem.models.dto.requests.InvestmentRequest;
+import com.example.financialSystem.models.dto.responses.CursorPageResponse;
 import com.example.financialSystem.models.dto.responses.InvestmentResponse;
+import com.example.financialSystem.models.dto.responses.MonteCarloSimulationResponse;
+import com.example.financialSystem.models.dto.responses.PortfolioSimulationResponse;
 import com.example.financialSystem.services.InvestmentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,11 +15,15 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -69,6 +76,40 @@ public class InvestmentController {
         return ResponseEntity.ok().body(investmentService.simulateInvestment(id, days));
     }
 
+    @GetMapping(value = "/simulate/portfolio", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Simulate portfolio yield", description = "Projects every active investment of the authenticated user over a set of horizons in a single call.")
+    @ApiResponse(responseCode = "200", description = "Portfolio simulation completed")
+    public ResponseEntity<PortfolioSimulationResponse> simulatePortfolio(
+            @Parameter(description = "Horizons in days, defaults to 30, 90, 365 and 1825") @RequestParam(required = false) List<Integer> horizons) {
+        return ResponseEntity.ok().body(investmentService.simulatePortfolio(horizons));
+    }
+
+    @GetMapping(value = "/simulate/risk", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Simulate portfolio risk", description = "Runs a Monte Carlo simulation over the authenticated user's investments and returns P5, P50 and P95 outcomes per currency.")
+    @ApiResponse(responseCode = "200", description = "Risk simulation completed")
+    public ResponseEntity<MonteCarloSimulationResponse> simulateRisk(
+            @Parameter(description = "Number of days for the simulation") @RequestParam(defaultValue = "365") int days,
+            @Parameter(description = "Number of simulated paths") @RequestParam(required = false) Integer paths) {
+        return ResponseEntity.ok().body(investmentService.simulateRisk(days, paths));
+    }
+
+    @GetMapping(value = "/{id}/valuation", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Value investment as of a date", description = "Values a specific investment on a past date using the locally stored price history.")
+    @ApiResponse(responseCode = "200", description = "Valuation completed")
+    public ResponseEntity<InvestmentResponse> valueInvestmentAsOf(
+            @PathVariable UUID id,
+            @Parameter(description = "Valuation date (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok().body(investmentService.valueInvestmentAsOf(id, date));
+    }
+
+    @GetMapping(value = "/valuation", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Value my investments as of a date", description = "Values every investment of the authenticated user held on the given date using the locally stored price history.")
+    @ApiResponse(responseCode = "200", description = "Valuation completed")
+    public ResponseEntity<List<InvestmentResponse>> valueInvestmentsAsOf(
+            @Parameter(description = "Valuation date (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok().body(investmentService.valueInvestmentsAsOf(date));
+    }
+
     @GetMapping(value = "/list/me", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "List my investments", description = "Returns all investments belonging to the authenticated user.")
     @ApiResponse(responseCode = "200", description = "User investments retrieved")
@@ -83,6 +124,40 @@ public class InvestmentController {
         return ResponseEntity.ok().body(investmentService.listAllInvestments());
     }
 
+    @GetMapping(value = "/list/me/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "List my investments by page", description = "Returns a keyset-paginated page of the current user's investments ordered by date. Pass the returned nextCursor to fetch the following page.")
+    @ApiResponse(responseCode = "200", description = "Page of user investments retrieved")
+    public ResponseEntity<CursorPageResponse<InvestmentResponse>> getInvestmentPageByUser(
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of investments per page") @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok().body(investmentService.listInvestmentsPage(cursor, size));
+    }
+
+    @GetMapping(value = "/list/all/page", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "List all investments by page (Admin)", description = "Returns a keyset-paginated page of all investments ordered by date.")
+    @ApiResponse(responseCode = "200", description = "Page of investments retrieved")
+    public ResponseEntity<CursorPageResponse<InvestmentResponse>> getInvestmentPage(
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of investments per page") @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok().body(investmentService.listAllInvestmentsPage(cursor, size));
+    }
+
+    @GetMapping(value = "/list/me/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Stream my investments", description = "Streams every investment of the current user as a JSON array, reading rows from a database cursor.")
+    @ApiResponse(responseCode = "200", description = "User investments streamed")
+    public void streamInvestmentByUser(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        investmentService.streamInvestments(response.getOutputStream());
+    }
+
+    @GetMapping(value = "/list/all/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Stream all investments (Admin)", description = "Streams every active investment as a JSON array, reading rows from a database cursor.")
+    @ApiResponse(responseCode = "200", description = "All investments streamed")
+    public void streamAllInvestment(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        investmentService.streamAllInvestments(response.getOutputStream());
+    }
+
     @PatchMapping(value = "/patch/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Partial update investment", description = "Updates specific fields of an investment record.")
     @ApiResponse(responseCode = "200", description = "Investment patched successfully")
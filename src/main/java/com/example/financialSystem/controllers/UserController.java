@@ -7,6 +7,7 @@ import com.example.financialSystem.models.dto.responses.UserFinancialResponse;
 import com.example.financialSystem.models.dto.responses.UserResponse;
 import com.example.financialSystem.services.UserService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -134,7 +135,7 @@ public class UserController {
 
     @GetMapping(value = "/list/financial", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "List users with financials",
-            description = "Returns a list of users including their financial data.")
+            description = "Returns a page of active users including their financial data.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "List retrieved",
                     content = @Content(mediaType = "application/json",
@@ -150,8 +151,10 @@ public class UserController {
                             schema = @Schema(implementation = ExceptionDetails.class)
                     ))
     })
-    public ResponseEntity<List<UserFinancialResponse>> getAllUsersFinancial() {
-        return ResponseEntity.ok().body(userService.listAllUserFinancial());
+    public ResponseEntity<List<UserFinancialResponse>> getAllUsersFinancial(
+            @Parameter(description = "Zero-based page of users") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Number of users per page") @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok().body(userService.listAllUserFinancial(page, size));
     }
 
     @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -0,0 +1,7 @@
+package com.example.financialSystem.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.financialSystem.exceptions;
+
+public class PriceProviderException extends RuntimeException {
+    public PriceProviderException(String message) {
+        super(message);
+    }
+}
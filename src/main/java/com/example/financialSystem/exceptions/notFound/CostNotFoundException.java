@@ -2,8 +2,10 @@ package com.example.financialSystem.exceptions.notFound;
 
 import com.example.financialSystem.exceptions.FinancialException;
 
+import java.util.UUID;
+
 public class CostNotFoundException extends FinancialException {
-    public CostNotFoundException(int id) {
+    public CostNotFoundException(UUID id) {
         super("cost with id " + id + " not found");
     }
 }
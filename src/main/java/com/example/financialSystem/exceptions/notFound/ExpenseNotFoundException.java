@@ -2,8 +2,10 @@ package com.example.financialSystem.exceptions.notFound;
 
 import com.example.financialSystem.exceptions.FinancialException;
 
+import java.util.UUID;
+
 public class ExpenseNotFoundException extends FinancialException {
-    public ExpenseNotFoundException(int id) {
+    public ExpenseNotFoundException(UUID id) {
         super("expense with id " + id + " not found");
     }
 }
@@ -0,0 +1,11 @@
+package com.example.financialSystem.exceptions.notFound;
+
+import com.example.financialSystem.exceptions.FinancialException;
+
+import java.time.LocalDate;
+
+public class PriceHistoryNotFoundException extends FinancialException {
+    public PriceHistoryNotFoundException(String seriesKey, LocalDate date) {
+        super("No price history for " + seriesKey + " on or before " + date);
+    }
+}
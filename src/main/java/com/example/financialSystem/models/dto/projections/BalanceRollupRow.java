@@ -0,0 +1,18 @@
+package com.example.financialSystem.models.dto.projections;
+
+import com.example.financialSystem.models.enums.FinancialType;
+import com.example.financialSystem.utils.BenchMarkRate;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record BalanceRollupRow(
+        UUID userId,
+        Integer year,
+        Integer month,
+        FinancialType financialType,
+        BenchMarkRate currency,
+        BigDecimal total,
+        Long count
+) {
+}
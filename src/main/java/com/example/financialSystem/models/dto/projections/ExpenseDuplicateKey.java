@@ -0,0 +1,17 @@
+package com.example.financialSystem.models.dto.projections;
+
+import com.example.financialSystem.models.enums.ExpenseType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record ExpenseDuplicateKey(
+        ExpenseType expenseType,
+        LocalDate dateFinancial,
+        BigDecimal value,
+        String paymentMethod
+) {
+    public ExpenseDuplicateKey {
+        value = value != null ? value.stripTrailingZeros() : null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.financialSystem.models.dto.projections;
+
+import com.example.financialSystem.utils.BenchMarkRate;
+
+import java.math.BigDecimal;
+
+public record MonthlyTotalRow(
+        Integer year,
+        Integer month,
+        String category,
+        BenchMarkRate currency,
+        BigDecimal total,
+        Long count
+) {
+}
@@ -0,0 +1,17 @@
+package com.example.financialSystem.models.dto.projections;
+
+import com.example.financialSystem.models.enums.FinancialType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record UserFinancialRow(
+        UUID userId,
+        UUID id,
+        BigDecimal value,
+        LocalDate dateFinancial,
+        FinancialType financialType,
+        Boolean deleted
+) {
+}
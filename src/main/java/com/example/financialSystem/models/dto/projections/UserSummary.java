@@ -0,0 +1,9 @@
+package com.example.financialSystem.models.dto.projections;
+
+import java.util.UUID;
+
+public record UserSummary(
+        UUID id,
+        String name
+) {
+}
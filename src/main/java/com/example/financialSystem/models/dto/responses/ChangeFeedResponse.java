@@ -0,0 +1,10 @@
+package com.example.financialSystem.models.dto.responses;
+
+import java.util.List;
+
+public record ChangeFeedResponse(
+        List<FinancialChangeEvent> events,
+        long nextOffset,
+        boolean hasNext
+) {
+}
@@ -23,4 +23,13 @@ public class CostResponse {
     private BenchMarkRate baseCurrency;
     private LocalDate dateFinancial;
 
+    public CostResponse(UUID id, CostType costType, BigDecimal value, BenchMarkRate baseCurrency,
+                        LocalDate dateFinancial) {
+        this.id = id;
+        this.costType = costType;
+        this.financialType = FinancialType.COST;
+        this.value = value;
+        this.baseCurrency = baseCurrency;
+        this.dateFinancial = dateFinancial;
+    }
 }
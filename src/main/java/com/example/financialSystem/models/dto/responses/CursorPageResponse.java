@@ -0,0 +1,10 @@
+package com.example.financialSystem.models.dto.responses;
+
+import java.util.List;
+
+public record CursorPageResponse<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+}
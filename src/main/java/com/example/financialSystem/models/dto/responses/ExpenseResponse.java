@@ -26,4 +26,16 @@ public class ExpenseResponse {
 
     @JsonProperty("isFixed")
     private boolean isFixed;
+
+    public ExpenseResponse(UUID id, ExpenseType expenseType, BigDecimal value, LocalDate dateFinancial,
+                           BenchMarkRate baseCurrency, String paymentMethod, boolean isFixed) {
+        this.id = id;
+        this.expenseType = expenseType;
+        this.financialType = FinancialType.EXPENSE;
+        this.value = value;
+        this.dateFinancial = dateFinancial;
+        this.baseCurrency = baseCurrency;
+        this.paymentMethod = paymentMethod;
+        this.isFixed = isFixed;
+    }
 }
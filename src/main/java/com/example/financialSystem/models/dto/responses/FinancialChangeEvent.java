@@ -0,0 +1,31 @@
+package com.example.financialSystem.models.dto.responses;
+
+import com.example.financialSystem.models.entity.FinancialOutboxEvent;
+import com.example.financialSystem.models.enums.ChangeType;
+import com.example.financialSystem.models.enums.FinancialType;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record FinancialChangeEvent(
+        long offset,
+        UUID aggregateId,
+        UUID userId,
+        FinancialType financialType,
+        ChangeType changeType,
+        Instant occurredAt,
+        @JsonRawValue String payload
+) {
+    public static FinancialChangeEvent of(FinancialOutboxEvent event) {
+        return new FinancialChangeEvent(
+                event.getFeedOffset(),
+                event.getAggregateId(),
+                event.getUserId(),
+                event.getFinancialType(),
+                event.getChangeType(),
+                event.getOccurredAt(),
+                event.getPayload()
+        );
+    }
+}
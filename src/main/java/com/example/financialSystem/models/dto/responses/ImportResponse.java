@@ -0,0 +1,27 @@
+package com.example.financialSystem.models.dto.responses;
+
+import com.example.financialSystem.models.enums.ImportRowStatus;
+
+import java.util.List;
+
+public record ImportResponse(
+        int total,
+        int created,
+        int duplicates,
+        int invalid,
+        List<ImportRowResult> rows
+) {
+    public static ImportResponse of(List<ImportRowResult> rows) {
+        return new ImportResponse(
+                rows.size(),
+                count(rows, ImportRowStatus.CREATED),
+                count(rows, ImportRowStatus.DUPLICATE),
+                count(rows, ImportRowStatus.INVALID),
+                rows
+        );
+    }
+
+    private static int count(List<ImportRowResult> rows, ImportRowStatus status) {
+        return (int) rows.stream().filter(row -> row.status() == status).count();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.financialSystem.models.dto.responses;
+
+import com.example.financialSystem.models.enums.ImportRowStatus;
+
+import java.util.UUID;
+
+public record ImportRowResult(
+        int row,
+        ImportRowStatus status,
+        UUID id,
+        String message
+) {
+}
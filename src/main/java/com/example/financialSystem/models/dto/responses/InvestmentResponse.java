@@ -25,4 +25,17 @@ public class InvestmentResponse {
     private BigDecimal currentValue;
     private String brokerName;
     private int daysInvested;
+    private boolean valuationDegraded;
+
+    public InvestmentResponse(UUID id, InvestmentType investmentType, BigDecimal value, LocalDate dateFinancial,
+                              BenchMarkRate baseCurrency, int actionQuantity, String brokerName) {
+        this.id = id;
+        this.investmentType = investmentType;
+        this.financialType = FinancialType.INVESTMENT;
+        this.value = value;
+        this.dateFinancial = dateFinancial;
+        this.baseCurrency = baseCurrency;
+        this.actionQuantity = actionQuantity;
+        this.brokerName = brokerName;
+    }
 }
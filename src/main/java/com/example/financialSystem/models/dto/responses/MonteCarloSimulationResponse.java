@@ -0,0 +1,10 @@
+package com.example.financialSystem.models.dto.responses;
+
+import java.util.List;
+
+public record MonteCarloSimulationResponse(
+        int days,
+        int paths,
+        List<RiskProjectionResponse> projections
+) {
+}
@@ -0,0 +1,12 @@
+package com.example.financialSystem.models.dto.responses;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record MonthlySummaryResponse(
+        LocalDate from,
+        LocalDate to,
+        List<MonthlyTotalResponse> expenses,
+        List<MonthlyTotalResponse> costs
+) {
+}
@@ -0,0 +1,15 @@
+package com.example.financialSystem.models.dto.responses;
+
+import com.example.financialSystem.utils.BenchMarkRate;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+public record MonthlyTotalResponse(
+        YearMonth month,
+        String category,
+        BenchMarkRate currency,
+        BigDecimal total,
+        long count
+) {
+}
@@ -0,0 +1,10 @@
+package com.example.financialSystem.models.dto.responses;
+
+import java.util.List;
+
+public record PortfolioSimulationResponse(
+        List<Integer> horizons,
+        List<PositionProjectionResponse> positions,
+        List<PortfolioTotalResponse> totals
+) {
+}
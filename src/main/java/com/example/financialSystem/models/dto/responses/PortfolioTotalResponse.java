@@ -0,0 +1,13 @@
+package com.example.financialSystem.models.dto.responses;
+
+import com.example.financialSystem.utils.BenchMarkRate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record PortfolioTotalResponse(
+        BenchMarkRate baseCurrency,
+        BigDecimal value,
+        List<BigDecimal> projectedValues
+) {
+}
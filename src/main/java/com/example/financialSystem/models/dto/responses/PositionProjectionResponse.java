@@ -0,0 +1,18 @@
+package com.example.financialSystem.models.dto.responses;
+
+import com.example.financialSystem.models.enums.InvestmentType;
+import com.example.financialSystem.utils.BenchMarkRate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public record PositionProjectionResponse(
+        UUID id,
+        InvestmentType investmentType,
+        BenchMarkRate baseCurrency,
+        BigDecimal value,
+        double annualRate,
+        List<BigDecimal> projectedValues
+) {
+}
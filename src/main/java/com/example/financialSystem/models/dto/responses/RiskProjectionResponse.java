@@ -0,0 +1,15 @@
+package com.example.financialSystem.models.dto.responses;
+
+import com.example.financialSystem.utils.BenchMarkRate;
+
+import java.math.BigDecimal;
+
+public record RiskProjectionResponse(
+        BenchMarkRate baseCurrency,
+        BigDecimal value,
+        BigDecimal expected,
+        BigDecimal p5,
+        BigDecimal p50,
+        BigDecimal p95
+) {
+}
@@ -0,0 +1,51 @@
+package com.example.financialSystem.models.entity;
+
+import com.example.financialSystem.models.enums.FinancialType;
+import com.example.financialSystem.utils.BenchMarkRate;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "balance_rollup", uniqueConstraints = @UniqueConstraint(
+        name = "uk_balance_rollup_key",
+        columnNames = {"user_id", "period_start", "financial_type", "currency"}))
+public class BalanceRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Column(nullable = false)
+    private LocalDate periodStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private FinancialType financialType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BenchMarkRate currency;
+
+    @Column(nullable = false)
+    private BigDecimal total;
+
+    @Column(nullable = false)
+    private long entryCount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -24,6 +24,11 @@ import java.util.UUID;
 @Entity
 @EntityListeners(FinancialTypeListener.class)
 @Inheritance(strategy = InheritanceType.JOINED)
+@Table(indexes = {
+        @Index(name = "idx_financial_user_date_active", columnList = "user_id, date_financial, id"),
+        @Index(name = "idx_financial_date_active", columnList = "date_financial, id"),
+        @Index(name = "idx_financial_user_date_value", columnList = "user_id, date_financial, value")
+})
 public abstract class Financial extends BaseEntity {
     @DecimalMin(value = "0.01", message = "Value must be greater than 0")
     private BigDecimal value;
@@ -0,0 +1,60 @@
+package com.example.financialSystem.models.entity;
+
+import com.example.financialSystem.models.enums.ChangeType;
+import com.example.financialSystem.models.enums.FinancialType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "financial_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_financial_outbox_offset", columnNames = "feed_offset"),
+        indexes = @Index(name = "idx_financial_outbox_pending", columnList = "id"))
+public class FinancialOutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "financial_outbox_seq")
+    @SequenceGenerator(name = "financial_outbox_seq", sequenceName = "financial_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "feed_offset")
+    private Long feedOffset;
+
+    @Column(nullable = false)
+    private UUID aggregateId;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private FinancialType financialType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ChangeType changeType;
+
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Column(nullable = false)
+    private Instant occurredAt;
+
+    private Instant publishedAt;
+
+    public FinancialOutboxEvent(UUID aggregateId, UUID userId, FinancialType financialType, ChangeType changeType,
+                                String payload, Instant occurredAt) {
+        this.aggregateId = aggregateId;
+        this.userId = userId;
+        this.financialType = financialType;
+        this.changeType = changeType;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+    }
+}
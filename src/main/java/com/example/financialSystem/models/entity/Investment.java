@@ -16,6 +16,7 @@ import java.math.BigDecimal;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = @Index(name = "idx_investment_broker_type", columnList = "broker_name, investment_type"))
 public class Investment extends Financial {
     @Enumerated(EnumType.STRING)
     private InvestmentType investmentType;
@@ -14,19 +14,31 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_family", columnList = "family_id"),
+        @Index(name = "idx_refresh_tokens_expiry", columnList = "expiry_date"),
+        @Index(name = "idx_refresh_tokens_user_active", columnList = "user_id")
+})
 public class RefreshToken {
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
-    private UUID id;
+    @Column(name = "token_hash", length = 43)
+    private String tokenHash;
 
-    @OneToOne
-    @JoinColumn(name = "user_id")
+    @Column(name = "family_id", nullable = false)
+    private UUID familyId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @Column(nullable = false, unique = true)
-    private String token;
+    @Column(name = "expiry_date", nullable = false)
+    private Instant expiryDate;
 
     @Column(nullable = false)
-    private Instant expiryDate;
+    private Instant createdAt;
+
+    private Instant usedAt;
+
+    @Column(nullable = false)
+    private boolean revoked;
 }
@@ -0,0 +1,8 @@
+package com.example.financialSystem.models.enums;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    RESTORED
+}
@@ -0,0 +1,15 @@
+package com.example.financialSystem.models.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum ExportFormat {
+    CSV(".csv.gz"),
+    COLUMNAR(".fsc.gz");
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.financialSystem.models.enums;
+
+public enum ImportRowStatus {
+    CREATED,
+    DUPLICATE,
+    INVALID
+}
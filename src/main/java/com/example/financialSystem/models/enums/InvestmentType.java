@@ -4,22 +4,24 @@ import lombok.Getter;
 
 @Getter
 public enum InvestmentType {
-    STOCK(null, null),
-    FUND(null, null),
-    FIXED_INCOME(0.08, null),
-    TREASURY(0.10, null),
+    STOCK(null, null, 0.25),
+    FUND(null, null, 0.15),
+    FIXED_INCOME(0.08, null, 0.02),
+    TREASURY(0.10, null, 0.05),
 
-    CRYPTO_BTC(null, "bitcoin"),
-    CRYPTO_ETH(null, "ethereum"),
-    CRYPTO_SOL(null, "solana"),
-    CRYPTO_DOGE(null, "dogecoin");
+    CRYPTO_BTC(null, "bitcoin", 0.60),
+    CRYPTO_ETH(null, "ethereum", 0.75),
+    CRYPTO_SOL(null, "solana", 0.95),
+    CRYPTO_DOGE(null, "dogecoin", 1.10);
 
     private final Double rate;
     private final String coinGeckoId;
+    private final double volatility;
 
-    InvestmentType(Double rate, String coinGeckoId) {
+    InvestmentType(Double rate, String coinGeckoId, double volatility) {
         this.rate = rate;
         this.coinGeckoId = coinGeckoId;
+        this.volatility = volatility;
     }
 
     public boolean isCrypto() {
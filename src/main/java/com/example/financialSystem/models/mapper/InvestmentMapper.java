@@ -7,14 +7,15 @@ import com.example.financialSystem.models.entity.Investment;
 import org.mapstruct.*;
 
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 
-@Mapper(componentModel = "spring", imports = {ChronoUnit.class, LocalDate.class})
+@Mapper(componentModel = "spring", imports = {ChronoUnit.class, LocalDate.class, ZoneOffset.class})
 public interface InvestmentMapper {
 
     @Mapping(target = "daysInvested",
-            expression = "java((int) ChronoUnit.DAYS.between(entity.getDateFinancial(), LocalDate.now()))")
+            expression = "java((int) ChronoUnit.DAYS.between(entity.getDateFinancial(), LocalDate.now(ZoneOffset.UTC)))")
     @Mapping(target = "financialType", constant = "INVESTMENT")
     InvestmentResponse toResponse(Investment entity);
 
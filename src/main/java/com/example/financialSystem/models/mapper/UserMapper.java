@@ -2,7 +2,6 @@ package com.example.financialSystem.models.mapper;
 
 import com.example.financialSystem.models.dto.requests.UserRequest;
 import com.example.financialSystem.models.dto.requests.UserPatchRequest;
-import com.example.financialSystem.models.dto.responses.UserFinancialResponse;
 import com.example.financialSystem.models.dto.responses.UserResponse;
 import com.example.financialSystem.models.entity.User;
 import org.mapstruct.*;
@@ -19,8 +18,6 @@ public interface UserMapper {
 
     List<UserResponse> toResponseList(List<User> entity);
 
-    List<UserFinancialResponse> toFinancialResponseList(List<User> entity);
-
     UserRequest toRequest(User entity);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.SET_TO_NULL)
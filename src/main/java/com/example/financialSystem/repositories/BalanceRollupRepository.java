@@ -0,0 +1,53 @@
+package com.example.financialSystem.repositories;
+
+import com.example.financialSystem.models.dto.projections.BalanceRollupRow;
+import com.example.financialSystem.models.entity.BalanceRollup;
+import com.example.financialSystem.models.enums.FinancialType;
+import com.example.financialSystem.utils.BenchMarkRate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface BalanceRollupRepository extends JpaRepository<BalanceRollup, UUID> {
+
+    @Query(value = "SELECT id FROM users WHERE id = :userId FOR UPDATE", nativeQuery = true)
+    Optional<UUID> lockOwner(@Param("userId") UUID userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE BalanceRollup r SET r.total = r.total + :delta, r.entryCount = r.entryCount + :count, " +
+            "r.updatedAt = :now WHERE r.userId = :userId AND r.periodStart = :periodStart " +
+            "AND r.financialType = :financialType AND r.currency = :currency")
+    int increment(@Param("userId") UUID userId,
+                  @Param("periodStart") LocalDate periodStart,
+                  @Param("financialType") FinancialType financialType,
+                  @Param("currency") BenchMarkRate currency,
+                  @Param("delta") BigDecimal delta,
+                  @Param("count") long count,
+                  @Param("now") LocalDateTime now);
+
+    List<BalanceRollup> findByUserIdAndPeriodStartBetweenOrderByPeriodStartAscFinancialTypeAscCurrencyAsc(
+            UUID userId, LocalDate from, LocalDate to);
+
+    List<BalanceRollup> findByUserId(UUID userId);
+
+    @Query("SELECT DISTINCT r.userId FROM BalanceRollup r")
+    List<UUID> findRolledUpUserIds();
+
+    @Query("SELECT DISTINCT f.user.id FROM Financial f WHERE f.deleted = false")
+    List<UUID> findActiveFinancialUserIds();
+
+    @Query("SELECT new com.example.financialSystem.models.dto.projections.BalanceRollupRow(" +
+            "f.user.id, year(f.dateFinancial), month(f.dateFinancial), f.financialType, f.baseCurrency, " +
+            "sum(f.value), count(f)) " +
+            "FROM Financial f WHERE f.user.id = :userId AND f.deleted = false " +
+            "GROUP BY f.user.id, year(f.dateFinancial), month(f.dateFinancial), f.financialType, f.baseCurrency")
+    List<BalanceRollupRow> aggregateFromFinancials(@Param("userId") UUID userId);
+}
@@ -1,5 +1,9 @@
 package com.example.financialSystem.repositories;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.NoRepositoryBean;
@@ -10,4 +14,6 @@ import java.util.List;
 public interface BaseRepository<T, ID> extends JpaRepository<T, ID> {
     @Query("SELECT e FROM #{#entityName} e WHERE e.deleted = false")
     List<T> findAllActive();
+
+    Window<T> findByDeletedFalse(ScrollPosition position, Sort sort, Limit limit);
 }
@@ -1,25 +1,83 @@
 package com.example.financialSystem.repositories;
 
+import com.example.financialSystem.models.dto.projections.MonthlyTotalRow;
+import com.example.financialSystem.models.dto.responses.CostResponse;
 import com.example.financialSystem.models.entity.Cost;
 import com.example.financialSystem.models.entity.User;
 import com.example.financialSystem.models.enums.CostType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface CostRepository extends BaseRepository<Cost, Integer> {
+public interface CostRepository extends BaseRepository<Cost, UUID> {
 
     boolean existsByUserAndCostTypeAndDateFinancial(User user, CostType type, LocalDate dateFinancial);
 
-    @EntityGraph(attributePaths = {"user"})
+    @EntityGraph(attributePaths = {"user", "user.login"})
     Optional<Cost> findById(UUID id);
 
+    @EntityGraph(attributePaths = {"user", "user.login"})
+    Optional<Cost> findByIdAndUserId(UUID id, UUID userId);
+
+    @Query("SELECT new com.example.financialSystem.models.dto.projections.MonthlyTotalRow(" +
+            "year(c.dateFinancial), month(c.dateFinancial), cast(c.costType as String), c.baseCurrency, " +
+            "sum(c.value), count(c)) " +
+            "FROM Cost c WHERE c.user = :user AND c.deleted = false " +
+            "AND c.dateFinancial BETWEEN :from AND :to " +
+            "GROUP BY year(c.dateFinancial), month(c.dateFinancial), c.costType, c.baseCurrency " +
+            "ORDER BY year(c.dateFinancial), month(c.dateFinancial), c.costType, c.baseCurrency")
+    List<MonthlyTotalRow> sumMonthlyByType(@Param("user") User user,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to);
+
     @EntityGraph(attributePaths = {"user"})
     List<Cost> findByUserAndDeletedFalse(User user);
 
     @EntityGraph(attributePaths = {"user"})
     List<Cost> findAllActive();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.example.financialSystem.models.dto.responses.CostResponse(" +
+            "c.id, c.costType, c.value, c.baseCurrency, c.dateFinancial) " +
+            "FROM Cost c WHERE c.user = :user AND c.deleted = false ORDER BY c.dateFinancial, c.id")
+    List<CostResponse> findResponsesByUser(@Param("user") User user);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.example.financialSystem.models.dto.responses.CostResponse(" +
+            "c.id, c.costType, c.value, c.baseCurrency, c.dateFinancial) " +
+            "FROM Cost c WHERE c.deleted = false ORDER BY c.dateFinancial, c.id")
+    List<CostResponse> findAllActiveResponses();
+
+    @EntityGraph(attributePaths = {"user"})
+    Window<Cost> findByUserAndDeletedFalse(User user, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(attributePaths = {"user"})
+    Window<Cost> findByDeletedFalse(ScrollPosition position, Sort sort, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Cost c JOIN FETCH c.user WHERE c.user = :user AND c.deleted = false ORDER BY c.dateFinancial, c.id")
+    Stream<Cost> streamByUser(@Param("user") User user);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Cost c JOIN FETCH c.user WHERE c.deleted = false ORDER BY c.dateFinancial, c.id")
+    Stream<Cost> streamAllActive();
 }
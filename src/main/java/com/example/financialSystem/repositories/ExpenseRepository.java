@@ -1,29 +1,100 @@
 package com.example.financialSystem.repositories;
 
+import com.example.financialSystem.models.dto.projections.ExpenseDuplicateKey;
+import com.example.financialSystem.models.dto.projections.MonthlyTotalRow;
+import com.example.financialSystem.models.dto.responses.ExpenseResponse;
 import com.example.financialSystem.models.entity.Expense;
 import com.example.financialSystem.models.entity.User;
 import com.example.financialSystem.models.enums.ExpenseType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 
-public interface ExpenseRepository extends BaseRepository<Expense, Integer> {
+public interface ExpenseRepository extends BaseRepository<Expense, UUID> {
 
-    @EntityGraph(attributePaths = {"user"})
+    @EntityGraph(attributePaths = {"user", "user.login"})
     Optional<Expense> findById(UUID id);
 
+    @EntityGraph(attributePaths = {"user", "user.login"})
+    Optional<Expense> findByIdAndUserId(UUID id, UUID userId);
+
     @EntityGraph(attributePaths = {"user"})
     Optional<Expense> findByUserAndExpenseTypeAndDateFinancialAndValueAndPaymentMethod(User user, ExpenseType expenseType, LocalDate dateFinancial, BigDecimal value, String paymentMethod);
 
+    @Query("SELECT new com.example.financialSystem.models.dto.projections.ExpenseDuplicateKey(" +
+            "e.expenseType, e.dateFinancial, e.value, e.paymentMethod) " +
+            "FROM Expense e WHERE e.user = :user " +
+            "AND e.dateFinancial BETWEEN :from AND :to " +
+            "AND e.expenseType IN :types AND e.paymentMethod IN :paymentMethods")
+    List<ExpenseDuplicateKey> findDuplicateKeys(@Param("user") User user,
+                                                @Param("from") LocalDate from,
+                                                @Param("to") LocalDate to,
+                                                @Param("types") Collection<ExpenseType> types,
+                                                @Param("paymentMethods") Collection<String> paymentMethods);
+
+    @Query("SELECT new com.example.financialSystem.models.dto.projections.MonthlyTotalRow(" +
+            "year(e.dateFinancial), month(e.dateFinancial), cast(e.expenseType as String), e.baseCurrency, " +
+            "sum(e.value), count(e)) " +
+            "FROM Expense e WHERE e.user = :user AND e.deleted = false " +
+            "AND e.dateFinancial BETWEEN :from AND :to " +
+            "GROUP BY year(e.dateFinancial), month(e.dateFinancial), e.expenseType, e.baseCurrency " +
+            "ORDER BY year(e.dateFinancial), month(e.dateFinancial), e.expenseType, e.baseCurrency")
+    List<MonthlyTotalRow> sumMonthlyByType(@Param("user") User user,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to);
+
     @EntityGraph(attributePaths = {"user"})
     List<Expense> findByUserAndDeletedFalse(User user);
 
     @EntityGraph(attributePaths = {"user"})
     List<Expense> findAllActive();
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.example.financialSystem.models.dto.responses.ExpenseResponse(" +
+            "e.id, e.expenseType, e.value, e.dateFinancial, e.baseCurrency, e.paymentMethod, e.isFixed) " +
+            "FROM Expense e WHERE e.user = :user AND e.deleted = false ORDER BY e.dateFinancial, e.id")
+    List<ExpenseResponse> findResponsesByUser(@Param("user") User user);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.example.financialSystem.models.dto.responses.ExpenseResponse(" +
+            "e.id, e.expenseType, e.value, e.dateFinancial, e.baseCurrency, e.paymentMethod, e.isFixed) " +
+            "FROM Expense e WHERE e.deleted = false ORDER BY e.dateFinancial, e.id")
+    List<ExpenseResponse> findAllActiveResponses();
+
+    @EntityGraph(attributePaths = {"user"})
+    Window<Expense> findByUserAndDeletedFalse(User user, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(attributePaths = {"user"})
+    Window<Expense> findByDeletedFalse(ScrollPosition position, Sort sort, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Expense e JOIN FETCH e.user WHERE e.user = :user AND e.deleted = false ORDER BY e.dateFinancial, e.id")
+    Stream<Expense> streamByUser(@Param("user") User user);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Expense e JOIN FETCH e.user WHERE e.deleted = false ORDER BY e.dateFinancial, e.id")
+    Stream<Expense> streamAllActive();
+
 }
@@ -0,0 +1,26 @@
+package com.example.financialSystem.repositories;
+
+import com.example.financialSystem.models.entity.FinancialOutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface FinancialOutboxRepository extends JpaRepository<FinancialOutboxEvent, Long> {
+
+    List<FinancialOutboxEvent> findByFeedOffsetIsNullOrderByIdAsc(Limit limit);
+
+    List<FinancialOutboxEvent> findByFeedOffsetGreaterThanOrderByFeedOffsetAsc(long offset, Limit limit);
+
+    @Query("SELECT coalesce(max(e.feedOffset), 0) FROM FinancialOutboxEvent e")
+    long findLastOffset();
+
+    @Modifying
+    @Query("DELETE FROM FinancialOutboxEvent e WHERE e.publishedAt < :cutoff " +
+            "AND e.feedOffset < (SELECT max(o.feedOffset) FROM FinancialOutboxEvent o)")
+    int deletePublishedBefore(@Param("cutoff") Instant cutoff);
+}
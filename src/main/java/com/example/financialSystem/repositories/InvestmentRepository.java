@@ -1,25 +1,71 @@
 package com.example.financialSystem.repositories;
 
+import com.example.financialSystem.models.dto.responses.InvestmentResponse;
 import com.example.financialSystem.models.entity.Investment;
 import com.example.financialSystem.models.enums.InvestmentType;
 import com.example.financialSystem.models.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface InvestmentRepository extends BaseRepository<Investment, Integer> {
+public interface InvestmentRepository extends BaseRepository<Investment, UUID> {
     @EntityGraph(attributePaths = {"user"})
     Optional<Investment> findByUserAndInvestmentTypeAndBrokerName(User user, InvestmentType investmentType, String brokerName);
 
-    @EntityGraph(attributePaths = {"user"})
+    @EntityGraph(attributePaths = {"user", "user.login"})
     Optional<Investment> findById(UUID id);
 
+    @EntityGraph(attributePaths = {"user", "user.login"})
+    Optional<Investment> findByIdAndUserId(UUID id, UUID userId);
+
     @EntityGraph(attributePaths = {"user"})
     List<Investment> findByUserAndDeletedFalse(User user);
 
     @EntityGraph(attributePaths = {"user"})
     List<Investment> findAllActive();
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.example.financialSystem.models.dto.responses.InvestmentResponse(" +
+            "i.id, i.investmentType, i.value, i.dateFinancial, i.baseCurrency, i.actionQuantity, i.brokerName) " +
+            "FROM Investment i WHERE i.user = :user AND i.deleted = false ORDER BY i.dateFinancial, i.id")
+    List<InvestmentResponse> findResponsesByUser(@Param("user") User user);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.example.financialSystem.models.dto.responses.InvestmentResponse(" +
+            "i.id, i.investmentType, i.value, i.dateFinancial, i.baseCurrency, i.actionQuantity, i.brokerName) " +
+            "FROM Investment i WHERE i.deleted = false ORDER BY i.dateFinancial, i.id")
+    List<InvestmentResponse> findAllActiveResponses();
+
+    @EntityGraph(attributePaths = {"user"})
+    Window<Investment> findByUserAndDeletedFalse(User user, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(attributePaths = {"user"})
+    Window<Investment> findByDeletedFalse(ScrollPosition position, Sort sort, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT i FROM Investment i JOIN FETCH i.user WHERE i.user = :user AND i.deleted = false ORDER BY i.dateFinancial, i.id")
+    Stream<Investment> streamByUser(@Param("user") User user);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT i FROM Investment i JOIN FETCH i.user WHERE i.deleted = false ORDER BY i.dateFinancial, i.id")
+    Stream<Investment> streamAllActive();
+
 }
@@ -1,11 +1,15 @@
 package com.example.financialSystem.repositories;
 
 import com.example.financialSystem.models.entity.Login;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
 public interface LoginRepository extends BaseRepository<Login, Integer> {
     @EntityGraph(attributePaths = {"user"})
-     Optional<Login> findByUsername(String username);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<Login> findByUsername(String username);
 }
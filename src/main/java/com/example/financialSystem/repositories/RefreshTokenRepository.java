@@ -7,19 +7,30 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Integer> {
-    @EntityGraph(attributePaths = {"user"})
-    Optional<RefreshToken> findByToken(String token);
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+    @EntityGraph(attributePaths = {"user", "user.login"})
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
 
     @Modifying
-    @Transactional
-    @Query("DELETE FROM RefreshToken rt WHERE rt.user.id = :userId")
-    void deleteByUserId(@Param("userId") UUID userId);
+    @Query("UPDATE RefreshToken rt SET rt.usedAt = :usedAt " +
+            "WHERE rt.tokenHash = :tokenHash AND rt.usedAt IS NULL AND rt.revoked = false")
+    int markUsed(@Param("tokenHash") String tokenHash, @Param("usedAt") Instant usedAt);
 
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.familyId = :familyId AND rt.revoked = false")
+    int revokeFamily(@Param("familyId") UUID familyId);
+
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.user.id = :userId AND rt.revoked = false")
+    int revokeByUserId(@Param("userId") UUID userId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.expiryDate < :cutoff")
+    int deleteExpired(@Param("cutoff") Instant cutoff);
 }
@@ -1,22 +1,44 @@
 package com.example.financialSystem.repositories;
 
+import com.example.financialSystem.models.dto.projections.UserFinancialRow;
+import com.example.financialSystem.models.dto.projections.UserSummary;
 import com.example.financialSystem.models.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface UserRepository extends BaseRepository<User, Integer> {
     @EntityGraph(attributePaths = {"login"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findById(UUID id);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    boolean existsByIdAndDeletedFalse(UUID id);
+
     @EntityGraph(attributePaths = {"login"})
     @Query("SELECT e FROM #{#entityName} e WHERE e.deleted = false")
     List<User> findAllActive();
 
-    @EntityGraph(attributePaths = {"financial","login"})
-    @Query("select u from User u where u.deleted = false")
-    List<User> findAllWithFinancials();
+    @Query("SELECT new com.example.financialSystem.models.dto.projections.UserSummary(u.id, u.name) " +
+            "FROM User u WHERE u.deleted = false ORDER BY u.name, u.id")
+    List<UserSummary> findActiveSummaries(Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.example.financialSystem.models.dto.projections.UserFinancialRow(" +
+            "f.user.id, f.id, f.value, f.dateFinancial, f.financialType, f.deleted) " +
+            "FROM Financial f WHERE f.user.id IN :userIds ORDER BY f.user.id, f.dateFinancial, f.id")
+    Stream<UserFinancialRow> streamFinancialRows(@Param("userIds") Collection<UUID> userIds);
 }
@@ -0,0 +1,198 @@
+package com.example.financialSystem.services;
+
+import com.example.financialSystem.models.dto.projections.BalanceRollupRow;
+import com.example.financialSystem.models.entity.BalanceRollup;
+import com.example.financialSystem.models.entity.Cost;
+import com.example.financialSystem.models.entity.Expense;
+import com.example.financialSystem.models.entity.Financial;
+import com.example.financialSystem.models.enums.FinancialType;
+import com.example.financialSystem.repositories.BalanceRollupRepository;
+import com.example.financialSystem.utils.BenchMarkRate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+public class BalanceRollupService {
+    private static final Logger log = LoggerFactory.getLogger(BalanceRollupService.class);
+
+    private final BalanceRollupRepository balanceRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public BalanceRollupService(BalanceRollupRepository balanceRollupRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.balanceRollupRepository = balanceRollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public record Contribution(UUID userId, LocalDate periodStart, FinancialType financialType,
+                               BenchMarkRate currency, BigDecimal value) {
+        public static Contribution of(Financial financial) {
+            if (financial == null || Boolean.TRUE.equals(financial.getDeleted())) {
+                return null;
+            }
+
+            return new Contribution(
+                    financial.getUser().getId(),
+                    financial.getDateFinancial().withDayOfMonth(1),
+                    typeOf(financial),
+                    financial.getBaseCurrency(),
+                    financial.getValue()
+            );
+        }
+
+        private RollupKey key() {
+            return new RollupKey(userId, periodStart, financialType, currency);
+        }
+    }
+
+    private record RollupKey(UUID userId, LocalDate periodStart, FinancialType financialType, BenchMarkRate currency) {
+    }
+
+    private record Delta(BigDecimal total, long count) {
+        Delta plus(Delta other) {
+            return new Delta(total.add(other.total), count + other.count);
+        }
+
+        boolean isZero() {
+            return count == 0 && total.signum() == 0;
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Contribution before, Contribution after) {
+        Map<RollupKey, Delta> deltas = new LinkedHashMap<>();
+
+        if (before != null) {
+            deltas.merge(before.key(), new Delta(before.value().negate(), -1), Delta::plus);
+        }
+        if (after != null) {
+            deltas.merge(after.key(), new Delta(after.value(), 1), Delta::plus);
+        }
+
+        applyDeltas(deltas);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyCreated(Collection<? extends Financial> financials) {
+        Map<RollupKey, Delta> deltas = new LinkedHashMap<>();
+
+        for (Financial financial : financials) {
+            Contribution contribution = Contribution.of(financial);
+            if (contribution != null) {
+                deltas.merge(contribution.key(), new Delta(contribution.value(), 1), Delta::plus);
+            }
+        }
+
+        applyDeltas(deltas);
+    }
+
+    @Scheduled(cron = "${rollup.rebuild.cron:0 30 3 * * *}")
+    public int rebuild() {
+        Set<UUID> userIds = new LinkedHashSet<>(balanceRollupRepository.findRolledUpUserIds());
+        userIds.addAll(balanceRollupRepository.findActiveFinancialUserIds());
+
+        int corrected = 0;
+        for (UUID userId : userIds) {
+            corrected += transactionTemplate.execute(status -> reconcile(userId));
+        }
+
+        log.info("Balance rollup reconciled: {} rows corrected or removed across {} users", corrected, userIds.size());
+
+        return corrected;
+    }
+
+    private int reconcile(UUID userId) {
+        balanceRollupRepository.lockOwner(userId);
+
+        Map<RollupKey, BalanceRollup> existing = new HashMap<>();
+        for (BalanceRollup rollup : balanceRollupRepository.findByUserId(userId)) {
+            existing.put(new RollupKey(rollup.getUserId(), rollup.getPeriodStart(),
+                    rollup.getFinancialType(), rollup.getCurrency()), rollup);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<BalanceRollup> changed = new ArrayList<>();
+
+        for (BalanceRollupRow row : balanceRollupRepository.aggregateFromFinancials(userId)) {
+            RollupKey key = new RollupKey(row.userId(), LocalDate.of(row.year(), row.month(), 1),
+                    row.financialType(), row.currency());
+            BalanceRollup rollup = existing.remove(key);
+
+            if (rollup != null && rollup.getTotal().compareTo(row.total()) == 0 && rollup.getEntryCount() == row.count()) {
+                continue;
+            }
+
+            if (rollup == null) {
+                rollup = newRollup(key, BigDecimal.ZERO, 0, now);
+            }
+
+            rollup.setTotal(row.total());
+            rollup.setEntryCount(row.count());
+            rollup.setUpdatedAt(now);
+            changed.add(rollup);
+        }
+
+        balanceRollupRepository.saveAll(changed);
+        balanceRollupRepository.deleteAll(existing.values());
+
+        return changed.size() + existing.size();
+    }
+
+    private void applyDeltas(Map<RollupKey, Delta> deltas) {
+        deltas.values().removeIf(Delta::isZero);
+
+        deltas.keySet().stream()
+                .map(RollupKey::userId)
+                .distinct()
+                .sorted()
+                .forEach(balanceRollupRepository::lockOwner);
+
+        LocalDateTime now = LocalDateTime.now();
+
+        deltas.forEach((key, delta) -> {
+            int updated = balanceRollupRepository.increment(key.userId(), key.periodStart(), key.financialType(),
+                    key.currency(), delta.total(), delta.count(), now);
+
+            if (updated == 0) {
+                balanceRollupRepository.save(newRollup(key, delta.total(), delta.count(), now));
+            }
+        });
+    }
+
+    private static BalanceRollup newRollup(RollupKey key, BigDecimal total, long count, LocalDateTime now) {
+        return new BalanceRollup(null, key.userId(), key.periodStart(), key.financialType(), key.currency(),
+                total, count, now);
+    }
+
+    private static FinancialType typeOf(Financial financial) {
+        if (financial.getFinancialType() != null) {
+            return financial.getFinancialType();
+        }
+        if (financial instanceof Expense) {
+            return FinancialType.EXPENSE;
+        }
+        if (financial instanceof Cost) {
+            return FinancialType.COST;
+        }
+        return FinancialType.INVESTMENT;
+    }
+}
@@ -6,30 +6,49 @@ import com.example.financialSystem.exceptions.notFound.CostNotFoundException;
 import com.example.financialSystem.models.dto.requests.CostPatchRequest;
 import com.example.financialSystem.models.dto.requests.CostRequest;
 import com.example.financialSystem.models.dto.responses.CostResponse;
+import com.example.financialSystem.models.dto.responses.CursorPageResponse;
 import com.example.financialSystem.models.entity.Cost;
-import com.example.financialSystem.models.entity.Login;
 import com.example.financialSystem.models.entity.User;
+import com.example.financialSystem.models.enums.ChangeType;
 import com.example.financialSystem.models.enums.UserRole;
 import com.example.financialSystem.models.mapper.CostMapper;
 import com.example.financialSystem.repositories.CostRepository;
 import com.example.financialSystem.repositories.LoginRepository;
-import org.springframework.security.access.AccessDeniedException;
+import com.example.financialSystem.utils.KeysetCursor;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
 public class CostService extends UserLoggedService {
     private final CostRepository costRepository;
     private final CostMapper costMapper;
-
-    public CostService(LoginRepository loginRepository, CostRepository costRepository, CostMapper costMapper) {
+    private final BalanceRollupService balanceRollupService;
+    private final FinancialOutboxService financialOutboxService;
+    private final JsonStreamingService jsonStreamingService;
+    private final Clock clock;
+
+    public CostService(LoginRepository loginRepository, CostRepository costRepository, CostMapper costMapper,
+                       JsonStreamingService jsonStreamingService,
+                       BalanceRollupService balanceRollupService,
+                       FinancialOutboxService financialOutboxService,
+                       Clock clock) {
         super(loginRepository);
         this.costRepository = costRepository;
         this.costMapper = costMapper;
+        this.balanceRollupService = balanceRollupService;
+        this.financialOutboxService = financialOutboxService;
+        this.jsonStreamingService = jsonStreamingService;
+        this.clock = clock;
     }
 
     @Transactional
@@ -48,88 +67,126 @@ public class CostService extends UserLoggedService {
             throw new CostDuplicateException("You already created a cost of this type on this date");
         }
 
-        return costMapper.toResponse(costRepository.save(cost));
-    }
+        Cost saved = costRepository.save(cost);
+        balanceRollupService.apply(null, BalanceRollupService.Contribution.of(saved));
 
-    @Transactional
-    public CostResponse updateCost(int id, CostRequest request) {
-        Cost existingCost = costRepository.findById(id)
-                .orElseThrow(() -> new CostNotFoundException(id));
+        CostResponse response = costMapper.toResponse(saved);
+        financialOutboxService.record(saved, ChangeType.CREATED, response);
 
-        costMapper.toEntity(request);
+        return response;
+    }
 
-        validateOwerShip(existingCost);
+    @Transactional
+    public CostResponse updateCost(UUID id, CostRequest request) {
+        Cost existingCost = findOwnedCost(id);
         validateCostDate(existingCost.getDateFinancial());
 
         ensureChanged(existingCost, request);
 
+        BalanceRollupService.Contribution before = BalanceRollupService.Contribution.of(existingCost);
         costMapper.updateFromUpdate(request, existingCost);
-        return costMapper.toResponse(costRepository.save(existingCost));
+        Cost saved = costRepository.save(existingCost);
+        balanceRollupService.apply(before, BalanceRollupService.Contribution.of(saved));
+
+        CostResponse response = costMapper.toResponse(saved);
+        financialOutboxService.record(saved, ChangeType.UPDATED, response);
+
+        return response;
     }
 
     @Transactional
-    public CostResponse patchCost(int id, CostPatchRequest patchRequest) {
-        Cost existingCost = costRepository.findById(id)
-                .orElseThrow(() -> new CostNotFoundException(id));
-
-        validateOwerShip(existingCost);
+    public CostResponse patchCost(UUID id, CostPatchRequest patchRequest) {
+        Cost existingCost = findOwnedCost(id);
 
+        BalanceRollupService.Contribution before = BalanceRollupService.Contribution.of(existingCost);
         costMapper.updateFromPatch(patchRequest, existingCost);
 
         validateCostDate(existingCost.getDateFinancial());
-        return costMapper.toResponse(costRepository.save(existingCost));
-    }
+        Cost saved = costRepository.save(existingCost);
+        balanceRollupService.apply(before, BalanceRollupService.Contribution.of(saved));
 
-    public CostResponse getCostById(int id) {
-        Cost cost = costRepository.findById(id)
-                .orElseThrow(() -> new CostNotFoundException(id));
+        CostResponse response = costMapper.toResponse(saved);
+        financialOutboxService.record(saved, ChangeType.UPDATED, response);
+
+        return response;
+    }
 
-        validateOwerShip(cost);
+    public CostResponse getCostById(UUID id) {
+        Cost cost = findOwnedCost(id);
 
         return costMapper.toResponse(cost);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<CostResponse> listAllCost() {
-        return costMapper.toResponseList(costRepository.findAllActive());
+        return costRepository.findAllActiveResponses();
     }
 
+    @Transactional(readOnly = true)
     public List<CostResponse> listCost() {
-        return costMapper.toResponseList(costRepository.findByUserAndDeletedFalse(getLoggedUser().getUser()));
+        return costRepository.findResponsesByUser(getLoggedUser().getUser());
     }
 
-    @Transactional
-    public void activateCost(int id) {
-        Cost cost = costRepository.findById(id)
-                .orElseThrow(() -> new CostNotFoundException(id));
+    @PreAuthorize("hasRole('ADMIN')")
+    public CursorPageResponse<CostResponse> listAllCostPage(String cursor, int size) {
+        Window<Cost> window = costRepository.findByDeletedFalse(
+                KeysetCursor.decode(cursor), KeysetCursor.SORT, KeysetCursor.limit(size));
+
+        return KeysetCursor.toPage(window, costMapper::toResponseList);
+    }
+
+    public CursorPageResponse<CostResponse> listCostPage(String cursor, int size) {
+        Window<Cost> window = costRepository.findByUserAndDeletedFalse(
+                getLoggedUser().getUser(), KeysetCursor.decode(cursor), KeysetCursor.SORT, KeysetCursor.limit(size));
+
+        return KeysetCursor.toPage(window, costMapper::toResponseList);
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
+    public void streamAllCost(OutputStream out) throws IOException {
+        jsonStreamingService.writeArray(out, costRepository.streamAllActive(), costMapper::toResponseList);
+    }
 
-        validateOwerShip(cost);
+    @Transactional(readOnly = true)
+    public void streamCost(OutputStream out) throws IOException {
+        jsonStreamingService.writeArray(out,
+                costRepository.streamByUser(getLoggedUser().getUser()), costMapper::toResponseList);
+    }
+
+    @Transactional
+    public void activateCost(UUID id) {
+        Cost cost = findOwnedCost(id);
 
         if (Boolean.FALSE.equals(cost.getDeleted())) {
             throw new IllegalArgumentException("Cost is already active");
         }
 
+        BalanceRollupService.Contribution before = BalanceRollupService.Contribution.of(cost);
         cost.setDeleted(Boolean.FALSE);
         costRepository.save(cost);
+        balanceRollupService.apply(before, BalanceRollupService.Contribution.of(cost));
+        financialOutboxService.record(cost, ChangeType.RESTORED, costMapper.toResponse(cost));
     }
 
     @Transactional
-    public void deleteCost(int id) {
-        Cost cost = costRepository.findById(id)
-                .orElseThrow(() -> new CostNotFoundException(id));
-
-        validateOwerShip(cost);
+    public void deleteCost(UUID id) {
+        Cost cost = findOwnedCost(id);
 
         if (Boolean.TRUE.equals(cost.getDeleted())) {
             throw new IllegalStateException("Cost is already deleted");
         }
 
+        BalanceRollupService.Contribution before = BalanceRollupService.Contribution.of(cost);
         cost.setDeleted(Boolean.TRUE);
         costRepository.save(cost);
+        balanceRollupService.apply(before, BalanceRollupService.Contribution.of(cost));
+        financialOutboxService.record(cost, ChangeType.DELETED, costMapper.toResponse(cost));
     }
 
     public void validateCostDate(LocalDate date) {
-        if (date.isAfter(LocalDate.now())) throw new IllegalArgumentException("Cost date cannot be in the future");
+        if (date.isAfter(LocalDate.now(clock))) throw new IllegalArgumentException("Cost date cannot be in the future");
     }
 
     public void ensureChanged(Cost oldCost, CostRequest newCostReq) {
@@ -145,15 +202,13 @@ public class CostService extends UserLoggedService {
         }
     }
 
-    private void validateOwerShip(Cost cost) {
-        Login loggedUser = getLoggedUser();
-
-        boolean isOwnerOrAdmin = cost.getUser().getId() == loggedUser.getId()
-                || loggedUser.getUser().getUserRole() == UserRole.ADMIN;
+    private Cost findOwnedCost(UUID id) {
+        User user = getLoggedUser().getUser();
 
-        if (!isOwnerOrAdmin) {
-            throw new AccessDeniedException("You do not have permission to access this cost");
-        }
+        Optional<Cost> cost = user.getUserRole() == UserRole.ADMIN
+                ? costRepository.findById(id)
+                : costRepository.findByIdAndUserId(id, user.getId());
 
+        return cost.orElseThrow(() -> new CostNotFoundException(id));
     }
 }
@@ -1,54 +1,192 @@
 package com.example.financialSystem.services;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 @Service
 public class CryptoService {
     @Value("${coingecko.api.url}")
     private String apiUrl;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Value("${coingecko.cache.ttl-seconds:60}")
+    private long cacheTtlSeconds;
+
+    private static final String CLIENT = "coingecko";
+
+    private final PriceProviderClient priceProviderClient;
+
+    private final Map<QuoteKey, CachedQuote> quotes = new ConcurrentHashMap<>();
+    private final Map<QuoteKey, CompletableFuture<Double>> inFlight = new ConcurrentHashMap<>();
+
+    public record QuoteKey(String coinGeckoId, String fiatCurrency) {
+        public QuoteKey {
+            fiatCurrency = fiatCurrency.toLowerCase();
+        }
+    }
+
+    private record CachedQuote(Double price, Instant expiresAt) {
+        boolean isFresh(Instant now) {
+            return expiresAt.isAfter(now);
+        }
+    }
+
+    public CryptoService(PriceProviderClient priceProviderClient) {
+        this.priceProviderClient = priceProviderClient;
+    }
 
     public Double getCryptoPrice(String coinGeckoId, String fiatCurrency) {
-        String fiatLower = fiatCurrency.toLowerCase();
-        String url = String.format("%s/simple/price?ids=%s&vs_currencies=%s",
-                apiUrl, coinGeckoId, fiatLower);
+        QuoteKey key = new QuoteKey(coinGeckoId, fiatCurrency);
+        return getCryptoPrices(Set.of(key)).get(key);
+    }
+
+    public Map<QuoteKey, Double> getCryptoPrices(Collection<QuoteKey> keys) {
+        Map<QuoteKey, Double> prices = new HashMap<>();
+        Map<QuoteKey, CompletableFuture<Double>> owned = new HashMap<>();
+        Map<QuoteKey, CompletableFuture<Double>> awaited = new HashMap<>();
+        Instant now = Instant.now();
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("x-cg-pro-api-key", apiUrl);
+        for (QuoteKey key : new LinkedHashSet<>(keys)) {
+            CachedQuote cached = quotes.get(key);
+            if (cached != null && cached.isFresh(now)) {
+                prices.put(key, cached.price());
+                continue;
+            }
+
+            CompletableFuture<Double> future = new CompletableFuture<>();
+            CompletableFuture<Double> existing = inFlight.putIfAbsent(key, future);
+
+            if (existing == null) {
+                owned.put(key, future);
+            } else {
+                awaited.put(key, existing);
+            }
+        }
+
+        if (!owned.isEmpty()) {
+            loadQuotes(owned, prices);
+        }
 
-        HttpEntity<String> entity = new HttpEntity<>(headers);
+        awaited.forEach((key, future) -> {
+            Double price = future.join();
+            if (price != null) {
+                prices.put(key, price);
+            }
+        });
+
+        return prices;
+    }
+
+    public Map<LocalDate, Double> getDailyCloses(String coinGeckoId, String fiatCurrency, int days) {
+        String url = String.format("%s/coins/%s/market_chart?vs_currency=%s&days=%d&interval=daily",
+                apiUrl, coinGeckoId, fiatCurrency.toLowerCase(), days);
+
+        Map<LocalDate, Double> closes = new TreeMap<>();
 
         try {
-            ResponseEntity<Map<String, Map<String, Double>>> response = restTemplate.exchange(
+            Map<String, List<List<Number>>> body = priceProviderClient.getJson(
+                    CLIENT,
                     url,
-                    HttpMethod.GET,
-                    entity,
-                    new ParameterizedTypeReference<>() {
+                    headers(),
+                    new TypeReference<>() {
                     }
             );
 
-            Map<String, Map<String, Double>> body = response.getBody();
+            if (body != null && body.get("prices") != null) {
+                for (List<Number> point : body.get("prices")) {
+                    if (point.size() == 2 && point.get(0) != null && point.get(1) != null) {
+                        LocalDate day = Instant.ofEpochMilli(point.get(0).longValue())
+                                .atZone(ZoneOffset.UTC).toLocalDate();
+                        closes.put(day, point.get(1).doubleValue());
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Error fetching crypto history from API: " + e.getMessage());
+        }
+
+        return closes;
+    }
+
+    private void loadQuotes(Map<QuoteKey, CompletableFuture<Double>> owned, Map<QuoteKey, Double> prices) {
+        Map<QuoteKey, Double> fetched = Map.of();
+
+        try {
+            fetched = fetchPrices(owned.keySet());
+        } finally {
+            Instant expiresAt = Instant.now().plus(Duration.ofSeconds(cacheTtlSeconds));
+
+            for (Map.Entry<QuoteKey, CompletableFuture<Double>> entry : owned.entrySet()) {
+                QuoteKey key = entry.getKey();
+                Double price = fetched.get(key);
+
+                if (price != null) {
+                    quotes.put(key, new CachedQuote(price, expiresAt));
+                } else if (quotes.containsKey(key)) {
+                    price = quotes.get(key).price();
+                }
+
+                inFlight.remove(key, entry.getValue());
+                entry.getValue().complete(price);
+
+                if (price != null) {
+                    prices.put(key, price);
+                }
+            }
+        }
+    }
+
+    private Map<QuoteKey, Double> fetchPrices(Set<QuoteKey> keys) {
+        String ids = keys.stream().map(QuoteKey::coinGeckoId)
+                .distinct().sorted().collect(Collectors.joining(","));
+        String fiats = keys.stream().map(QuoteKey::fiatCurrency)
+                .distinct().sorted().collect(Collectors.joining(","));
+
+        String url = String.format("%s/simple/price?ids=%s&vs_currencies=%s",
+                apiUrl, ids, fiats);
+
+        Map<QuoteKey, Double> prices = new HashMap<>();
+
+        try {
+            Map<String, Map<String, Double>> body = priceProviderClient.getJson(
+                    CLIENT,
+                    url,
+                    headers(),
+                    new TypeReference<>() {
+                    }
+            );
 
-            if (body != null && body.containsKey(coinGeckoId)) {
-                Map<String, Double> prices = body.get(coinGeckoId);
-                if (prices != null && prices.containsKey(fiatLower)) {
-                    return prices.get(fiatLower);
+            if (body != null) {
+                for (QuoteKey key : keys) {
+                    Map<String, Double> coinPrices = body.get(key.coinGeckoId());
+                    if (coinPrices != null && coinPrices.get(key.fiatCurrency()) != null) {
+                        prices.put(key, coinPrices.get(key.fiatCurrency()));
+                    }
                 }
             }
-        } catch (Exception e) {
+        } catch (RuntimeException e) {
             System.err.println("Error fetching crypto price from API: " + e.getMessage());
         }
 
-        return null;
+        return prices;
+    }
+
+    private Map<String, String> headers() {
+        return Map.of("x-cg-pro-api-key", apiUrl);
     }
 }
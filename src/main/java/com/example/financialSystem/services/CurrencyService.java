@@ -2,13 +2,22 @@ package com.example.financialSystem.services;
 
 
 import com.example.financialSystem.models.dto.responses.CoinFastForexResponse;
+import com.example.financialSystem.utils.BenchMarkRate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 public class CurrencyService {
@@ -18,31 +27,103 @@ public class CurrencyService {
     @Value("${fastforex.api.url}")
     private String apiUrl;
 
+    @Value("${fastforex.snapshot.file:data/benchmark-rates.json}")
+    private String snapshotFile;
+
+    private final ObjectMapper objectMapper;
+    private final PriceProviderClient priceProviderClient;
+    private final AtomicReference<RateSnapshot> snapshot = new AtomicReference<>(RateSnapshot.empty());
+
+    public record RateSnapshot(Map<BenchMarkRate, Double> rates, Instant updatedAt) {
+        static RateSnapshot empty() {
+            return new RateSnapshot(Map.of(), Instant.EPOCH);
+        }
+    }
+
+    public CurrencyService(ObjectMapper objectMapper, PriceProviderClient priceProviderClient) {
+        this.objectMapper = objectMapper;
+        this.priceProviderClient = priceProviderClient;
+    }
+
+    @PostConstruct
+    void loadPersistedSnapshot() {
+        Path path = Path.of(snapshotFile);
+
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        try {
+            snapshot.set(objectMapper.readValue(path.toFile(), RateSnapshot.class));
+        } catch (IOException e) {
+            System.err.println("Error reading benchmark rate snapshot: " + e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${fastforex.refresh.interval-ms:3600000}")
+    public void refreshRates() {
+        Map<BenchMarkRate, Double> rates = fetchRates();
+
+        if (rates.isEmpty()) {
+            return;
+        }
+
+        Map<BenchMarkRate, Double> merged = new EnumMap<>(BenchMarkRate.class);
+        merged.putAll(snapshot.get().rates());
+        merged.putAll(rates);
+
+        RateSnapshot refreshed = new RateSnapshot(Map.copyOf(merged), Instant.now());
+        snapshot.set(refreshed);
+        persistSnapshot(refreshed);
+    }
+
     public Double getLiveRates(String currencyCode) {
-        RestTemplate restTemplate = new RestTemplate();
+        return snapshot.get().rates().get(BenchMarkRate.valueOf(currencyCode));
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("X-API-Key", apiKey);
+    public RateSnapshot getSnapshot() {
+        return snapshot.get();
+    }
 
-        HttpEntity<String> entity = new HttpEntity<>(headers);
+    private Map<BenchMarkRate, Double> fetchRates() {
+        Map<BenchMarkRate, Double> rates = new EnumMap<>(BenchMarkRate.class);
 
         try {
-            ResponseEntity<CoinFastForexResponse> response = restTemplate.exchange(
+            CoinFastForexResponse body = priceProviderClient.getJson(
+                    "fastforex",
                     apiUrl,
-                    HttpMethod.GET,
-                    entity,
-                    CoinFastForexResponse.class
+                    Map.of("X-API-Key", apiKey),
+                    new TypeReference<>() {
+                    }
             );
 
-            CoinFastForexResponse body = response.getBody();
-
             if (body != null && body.getResults() != null) {
-                return body.getResults().get(currencyCode);
+                for (BenchMarkRate rate : BenchMarkRate.values()) {
+                    Double value = body.getResults().get(rate.name());
+                    if (value != null) {
+                        rates.put(rate, value);
+                    }
+                }
             }
-        } catch (Exception e) {
+        } catch (RuntimeException e) {
             System.err.println("Error searching for rate in external API : " + e.getMessage());
         }
 
-        return null;
+        return rates;
+    }
+
+    private void persistSnapshot(RateSnapshot rateSnapshot) {
+        Path path = Path.of(snapshotFile).toAbsolutePath();
+
+        try {
+            Files.createDirectories(path.getParent());
+
+            Path temp = Files.createTempFile(path.getParent(), "benchmark-rates", ".tmp");
+            objectMapper.writeValue(temp.toFile(), rateSnapshot);
+
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Error persisting benchmark rate snapshot: " + e.getMessage());
+        }
     }
 }
@@ -0,0 +1,235 @@
+package com.example.financialSystem.services;
+
+import com.example.financialSystem.models.dto.projections.ExpenseDuplicateKey;
+import com.example.financialSystem.models.dto.requests.ExpenseRequest;
+import com.example.financialSystem.models.dto.responses.ImportResponse;
+import com.example.financialSystem.models.dto.responses.ImportRowResult;
+import com.example.financialSystem.models.entity.Expense;
+import com.example.financialSystem.models.entity.User;
+import com.example.financialSystem.models.enums.ChangeType;
+import com.example.financialSystem.models.enums.ExpenseType;
+import com.example.financialSystem.models.enums.ImportRowStatus;
+import com.example.financialSystem.models.mapper.ExpenseMapper;
+import com.example.financialSystem.repositories.ExpenseRepository;
+import com.example.financialSystem.repositories.LoginRepository;
+import com.example.financialSystem.utils.BenchMarkRate;
+import com.example.financialSystem.utils.CsvParser;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class ExpenseImportService extends UserLoggedService {
+    private final ExpenseRepository expenseRepository;
+    private final ExpenseMapper expenseMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final BalanceRollupService balanceRollupService;
+    private final FinancialOutboxService financialOutboxService;
+    private final Clock clock;
+    private final int batchSize;
+    private final int maxRows;
+
+    public ExpenseImportService(LoginRepository loginRepository,
+                                ExpenseRepository expenseRepository,
+                                ExpenseMapper expenseMapper,
+                                Validator validator,
+                                EntityManager entityManager,
+                                BalanceRollupService balanceRollupService,
+                                FinancialOutboxService financialOutboxService,
+                                @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize,
+                                @Value("${expense.import.max-rows:10000}") int maxRows,
+                                Clock clock) {
+        super(loginRepository);
+        this.expenseRepository = expenseRepository;
+        this.expenseMapper = expenseMapper;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.balanceRollupService = balanceRollupService;
+        this.financialOutboxService = financialOutboxService;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxRows = maxRows;
+        this.clock = clock;
+    }
+
+    private record ParsedRow(int row, ExpenseRequest request, String error) {
+    }
+
+    @Transactional
+    public ImportResponse importExpenses(List<ExpenseRequest> requests) {
+        List<ParsedRow> rows = new ArrayList<>(requests.size());
+
+        for (int i = 0; i < requests.size(); i++) {
+            rows.add(new ParsedRow(i + 1, requests.get(i), null));
+        }
+
+        return importRows(rows);
+    }
+
+    @Transactional
+    public ImportResponse importExpensesCsv(Reader csv) throws IOException {
+        List<Map<String, String>> records = CsvParser.parse(csv);
+        List<ParsedRow> rows = new ArrayList<>(records.size());
+
+        for (int i = 0; i < records.size(); i++) {
+            try {
+                rows.add(new ParsedRow(i + 1, toRequest(records.get(i)), null));
+            } catch (RuntimeException e) {
+                rows.add(new ParsedRow(i + 1, null, e.getMessage()));
+            }
+        }
+
+        return importRows(rows);
+    }
+
+    private ImportResponse importRows(List<ParsedRow> rows) {
+        if (rows.size() > maxRows) {
+            throw new IllegalArgumentException("Import is limited to " + maxRows + " rows");
+        }
+
+        User user = getLoggedUser().getUser();
+        ImportRowResult[] results = new ImportRowResult[rows.size()];
+        List<ParsedRow> valid = new ArrayList<>(rows.size());
+
+        for (ParsedRow row : rows) {
+            String error = row.error() != null ? row.error() : validate(row.request());
+
+            if (error != null) {
+                results[row.row() - 1] = new ImportRowResult(row.row(), ImportRowStatus.INVALID, null, error);
+            } else {
+                valid.add(row);
+            }
+        }
+
+        Set<ExpenseDuplicateKey> seen = findExistingKeys(user, valid);
+        List<Expense> pending = new ArrayList<>(batchSize);
+        List<ParsedRow> pendingRows = new ArrayList<>(batchSize);
+
+        for (ParsedRow row : valid) {
+            if (!seen.add(keyOf(row.request()))) {
+                results[row.row() - 1] = new ImportRowResult(row.row(), ImportRowStatus.DUPLICATE, null,
+                        "Expense already exists");
+                continue;
+            }
+
+            Expense expense = expenseMapper.toEntity(row.request());
+            expense.setUser(user);
+            pending.add(expense);
+            pendingRows.add(row);
+
+            if (pending.size() == batchSize) {
+                flushBatch(pending, pendingRows, results);
+            }
+        }
+
+        flushBatch(pending, pendingRows, results);
+
+        return ImportResponse.of(Arrays.asList(results));
+    }
+
+    private void flushBatch(List<Expense> pending, List<ParsedRow> pendingRows, ImportRowResult[] results) {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        expenseRepository.saveAll(pending);
+        balanceRollupService.applyCreated(pending);
+        financialOutboxService.recordAll(pending, ChangeType.CREATED, expenseMapper::toResponse);
+        entityManager.flush();
+
+        for (int i = 0; i < pending.size(); i++) {
+            int row = pendingRows.get(i).row();
+            results[row - 1] = new ImportRowResult(row, ImportRowStatus.CREATED, pending.get(i).getId(), null);
+        }
+
+        entityManager.clear();
+        pending.clear();
+        pendingRows.clear();
+    }
+
+    private Set<ExpenseDuplicateKey> findExistingKeys(User user, List<ParsedRow> rows) {
+        if (rows.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        List<ExpenseRequest> requests = rows.stream().map(ParsedRow::request).toList();
+
+        LocalDate from = requests.stream().map(ExpenseRequest::dateFinancial).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDate to = requests.stream().map(ExpenseRequest::dateFinancial).max(Comparator.naturalOrder()).orElseThrow();
+        Set<ExpenseType> types = requests.stream().map(ExpenseRequest::expenseType).collect(Collectors.toSet());
+        Set<String> paymentMethods = requests.stream().map(ExpenseRequest::paymentMethod).collect(Collectors.toSet());
+
+        return new HashSet<>(expenseRepository.findDuplicateKeys(user, from, to, types, paymentMethods));
+    }
+
+    private String validate(ExpenseRequest request) {
+        if (request == null) {
+            return "Row is empty";
+        }
+
+        Set<ConstraintViolation<ExpenseRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+
+        if (request.dateFinancial().isAfter(LocalDate.now(clock))) {
+            return "You cannot create an expense with an invalid date";
+        }
+
+        return null;
+    }
+
+    private static ExpenseDuplicateKey keyOf(ExpenseRequest request) {
+        return new ExpenseDuplicateKey(request.expenseType(), request.dateFinancial(),
+                request.value(), request.paymentMethod());
+    }
+
+    private static ExpenseRequest toRequest(Map<String, String> record) {
+        return new ExpenseRequest(
+                parse(record, "expensetype", value -> ExpenseType.valueOf(value.toUpperCase(Locale.ROOT))),
+                parse(record, "value", BigDecimal::new),
+                parse(record, "datefinancial", LocalDate::parse),
+                record.get("description"),
+                parse(record, "basecurrency", value -> BenchMarkRate.valueOf(value.toUpperCase(Locale.ROOT))),
+                record.get("paymentmethod"),
+                Boolean.TRUE.equals(parse(record, "isfixed", Boolean::parseBoolean))
+        );
+    }
+
+    private static <T> T parse(Map<String, String> record, String column,
+                               Function<String, T> parser) {
+        String value = record.get(column);
+
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+}
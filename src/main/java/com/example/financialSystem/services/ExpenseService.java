@@ -5,31 +5,50 @@ import com.example.financialSystem.exceptions.duplicates.ExpenseDuplicateExcepti
 import com.example.financialSystem.exceptions.notFound.ExpenseNotFoundException;
 import com.example.financialSystem.models.dto.requests.ExpensePatchRequest;
 import com.example.financialSystem.models.dto.requests.ExpenseRequest;
+import com.example.financialSystem.models.dto.responses.CursorPageResponse;
 import com.example.financialSystem.models.dto.responses.ExpenseResponse;
 import com.example.financialSystem.models.entity.Expense;
-import com.example.financialSystem.models.entity.Login;
 import com.example.financialSystem.models.entity.User;
+import com.example.financialSystem.models.enums.ChangeType;
 import com.example.financialSystem.models.enums.UserRole;
 import com.example.financialSystem.models.mapper.ExpenseMapper;
 import com.example.financialSystem.repositories.ExpenseRepository;
 import com.example.financialSystem.repositories.LoginRepository;
-import org.springframework.security.access.AccessDeniedException;
+import com.example.financialSystem.utils.KeysetCursor;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
 public class ExpenseService extends UserLoggedService {
     private final ExpenseRepository expenseRepository;
     private final ExpenseMapper expenseMapper;
-
-    public ExpenseService(LoginRepository loginRepository, ExpenseRepository expenseRepository, ExpenseMapper expenseMapper) {
+    private final BalanceRollupService balanceRollupService;
+    private final FinancialOutboxService financialOutboxService;
+    private final JsonStreamingService jsonStreamingService;
+    private final Clock clock;
+
+    public ExpenseService(LoginRepository loginRepository, ExpenseRepository expenseRepository, ExpenseMapper expenseMapper,
+                          JsonStreamingService jsonStreamingService,
+                          BalanceRollupService balanceRollupService,
+                          FinancialOutboxService financialOutboxService,
+                          Clock clock) {
         super(loginRepository);
         this.expenseRepository = expenseRepository;
         this.expenseMapper = expenseMapper;
+        this.balanceRollupService = balanceRollupService;
+        this.financialOutboxService = financialOutboxService;
+        this.jsonStreamingService = jsonStreamingService;
+        this.clock = clock;
     }
 
     @Transactional
@@ -53,81 +72,121 @@ public class ExpenseService extends UserLoggedService {
                 });
 
 
-        return expenseMapper.toResponse(expenseRepository.save(expense));
+        Expense saved = expenseRepository.save(expense);
+        balanceRollupService.apply(null, BalanceRollupService.Contribution.of(saved));
+
+        ExpenseResponse response = expenseMapper.toResponse(saved);
+        financialOutboxService.record(saved, ChangeType.CREATED, response);
+
+        return response;
     }
 
     @Transactional
-    public ExpenseResponse updateExpense(int id, ExpenseRequest request) {
-        Expense existingExpense = expenseRepository.findById(id)
-                .orElseThrow(() -> new ExpenseNotFoundException(id));
-
-        validateOwnerShip(existingExpense);
+    public ExpenseResponse updateExpense(UUID id, ExpenseRequest request) {
+        Expense existingExpense = findOwnedExpense(id);
         validateExpenseDate(existingExpense.getDateFinancial());
 
         ensureChanged(existingExpense, request);
 
+        BalanceRollupService.Contribution before = BalanceRollupService.Contribution.of(existingExpense);
         expenseMapper.updateEntityFromUpdate(request, existingExpense);
-        return expenseMapper.toResponse(expenseRepository.save(existingExpense));
+        Expense saved = expenseRepository.save(existingExpense);
+        balanceRollupService.apply(before, BalanceRollupService.Contribution.of(saved));
+
+        ExpenseResponse response = expenseMapper.toResponse(saved);
+        financialOutboxService.record(saved, ChangeType.UPDATED, response);
+
+        return response;
     }
 
     @Transactional
-    public ExpenseResponse patchExpense(int id, ExpensePatchRequest patchRequest) {
-        Expense existingExpense = expenseRepository.findById(id)
-                .orElseThrow(() -> new ExpenseNotFoundException(id));
-
-        validateOwnerShip(existingExpense);
+    public ExpenseResponse patchExpense(UUID id, ExpensePatchRequest patchRequest) {
+        Expense existingExpense = findOwnedExpense(id);
         validateExpenseDate(existingExpense.getDateFinancial());
 
+        BalanceRollupService.Contribution before = BalanceRollupService.Contribution.of(existingExpense);
         expenseMapper.updateEntityFromPatch(patchRequest, existingExpense);
-        return expenseMapper.toResponse(expenseRepository.save(existingExpense));
-    }
+        Expense saved = expenseRepository.save(existingExpense);
+        balanceRollupService.apply(before, BalanceRollupService.Contribution.of(saved));
+
+        ExpenseResponse response = expenseMapper.toResponse(saved);
+        financialOutboxService.record(saved, ChangeType.UPDATED, response);
 
-    public ExpenseResponse getExpenseById(int id) {
-        Expense expense = expenseRepository.findById(id)
-                .orElseThrow(() -> new ExpenseNotFoundException(id));
+        return response;
+    }
 
-        validateOwnerShip(expense);
+    public ExpenseResponse getExpenseById(UUID id) {
+        Expense expense = findOwnedExpense(id);
 
         return expenseMapper.toResponse(expense);
     }
 
+    @Transactional(readOnly = true)
     public List<ExpenseResponse> listExpense() {
-        return expenseMapper.toResponseList(expenseRepository.findByUserAndDeletedFalse(getLoggedUser().getUser()));
+        return expenseRepository.findResponsesByUser(getLoggedUser().getUser());
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<ExpenseResponse> listAllExpense() {
-        return expenseMapper.toResponseList(expenseRepository.findAllActive());
+        return expenseRepository.findAllActiveResponses();
     }
 
-    @Transactional
-    public void activateExpense(int id) {
-        Expense expense = expenseRepository.findById(id)
-                .orElseThrow(() -> new ExpenseNotFoundException(id));
+    public CursorPageResponse<ExpenseResponse> listExpensePage(String cursor, int size) {
+        Window<Expense> window = expenseRepository.findByUserAndDeletedFalse(
+                getLoggedUser().getUser(), KeysetCursor.decode(cursor), KeysetCursor.SORT, KeysetCursor.limit(size));
+
+        return KeysetCursor.toPage(window, expenseMapper::toResponseList);
+    }
 
-        validateOwnerShip(expense);
+    @PreAuthorize("hasRole('ADMIN')")
+    public CursorPageResponse<ExpenseResponse> listAllExpensePage(String cursor, int size) {
+        Window<Expense> window = expenseRepository.findByDeletedFalse(
+                KeysetCursor.decode(cursor), KeysetCursor.SORT, KeysetCursor.limit(size));
+
+        return KeysetCursor.toPage(window, expenseMapper::toResponseList);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamExpense(OutputStream out) throws IOException {
+        jsonStreamingService.writeArray(out,
+                expenseRepository.streamByUser(getLoggedUser().getUser()), expenseMapper::toResponseList);
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
+    public void streamAllExpense(OutputStream out) throws IOException {
+        jsonStreamingService.writeArray(out, expenseRepository.streamAllActive(), expenseMapper::toResponseList);
+    }
+
+    @Transactional
+    public void activateExpense(UUID id) {
+        Expense expense = findOwnedExpense(id);
 
         if (Boolean.FALSE.equals(expense.getDeleted())) {
             throw new IllegalArgumentException("Expense is already active");
         }
 
+        BalanceRollupService.Contribution before = BalanceRollupService.Contribution.of(expense);
         expense.setDeleted(Boolean.FALSE);
         expenseRepository.save(expense);
+        balanceRollupService.apply(before, BalanceRollupService.Contribution.of(expense));
+        financialOutboxService.record(expense, ChangeType.RESTORED, expenseMapper.toResponse(expense));
     }
 
     @Transactional
-    public void deleteExpense(int id) {
-        Expense expense = expenseRepository.findById(id)
-                .orElseThrow(() -> new ExpenseNotFoundException(id));
-
-        validateOwnerShip(expense);
+    public void deleteExpense(UUID id) {
+        Expense expense = findOwnedExpense(id);
 
         if (Boolean.TRUE.equals(expense.getDeleted())) {
             throw new IllegalStateException("Expense is already deleted");
         }
 
+        BalanceRollupService.Contribution before = BalanceRollupService.Contribution.of(expense);
         expense.setDeleted(Boolean.TRUE);
         expenseRepository.save(expense);
+        balanceRollupService.apply(before, BalanceRollupService.Contribution.of(expense));
+        financialOutboxService.record(expense, ChangeType.DELETED, expenseMapper.toResponse(expense));
     }
 
     public void ensureChanged(Expense oldExpense, ExpenseRequest newExpReq) {
@@ -146,19 +205,18 @@ public class ExpenseService extends UserLoggedService {
         }
     }
 
-    private void validateOwnerShip(Expense expense) {
-        Login loggedUser = getLoggedUser();
+    private Expense findOwnedExpense(UUID id) {
+        User user = getLoggedUser().getUser();
 
-        boolean isOwnerOrAdmin = loggedUser.getUser().getUserRole() == UserRole.ADMIN
-                || loggedUser.getUser().getId() == expense.getUser().getId();
+        Optional<Expense> expense = user.getUserRole() == UserRole.ADMIN
+                ? expenseRepository.findById(id)
+                : expenseRepository.findByIdAndUserId(id, user.getId());
 
-        if (!isOwnerOrAdmin) {
-            throw new AccessDeniedException("You can only edit your own account");
-        }
+        return expense.orElseThrow(() -> new ExpenseNotFoundException(id));
     }
 
     private void validateExpenseDate(LocalDate date) {
-        if (date.isAfter(LocalDate.now())) {
+        if (date.isAfter(LocalDate.now(clock))) {
             throw new IllegalArgumentException("You cannot create an expense with an invalid date");
         }
 
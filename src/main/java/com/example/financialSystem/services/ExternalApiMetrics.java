@@ -0,0 +1,19 @@
+package com.example.financialSystem.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+final class ExternalApiMetrics {
+
+    private ExternalApiMetrics() {
+    }
+
+    static Timer timer(MeterRegistry meterRegistry, String client, String outcome) {
+        return Timer.builder("external.api.requests")
+                .description("Latency of calls to external price APIs")
+                .tag("client", client)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.financialSystem.services;
+
+import com.example.financialSystem.models.dto.responses.FinancialChangeEvent;
+
+import java.util.List;
+
+public interface FinancialChangeConsumer {
+
+    long lastOffset();
+
+    void accept(List<FinancialChangeEvent> events);
+}
@@ -0,0 +1,152 @@
+package com.example.financialSystem.services;
+
+import com.example.financialSystem.models.dto.responses.FinancialChangeEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+@Component
+public class FinancialChangeLog implements FinancialChangeConsumer {
+    private static final Logger log = LoggerFactory.getLogger(FinancialChangeLog.class);
+    private static final int TAIL_CHUNK = 8192;
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+
+    private FileChannel channel;
+    private long lastOffset;
+
+    public FinancialChangeLog(ObjectMapper objectMapper,
+                              @Value("${outbox.log.file:data/financial-changes.log}") String file) {
+        this.objectMapper = objectMapper;
+        this.path = Path.of(file).toAbsolutePath();
+    }
+
+    @PostConstruct
+    synchronized void open() throws IOException {
+        Files.createDirectories(path.getParent());
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        lastOffset = recoverLastOffset();
+        channel.position(channel.size());
+
+        log.info("Financial change log {} resumed after offset {}", path, lastOffset);
+    }
+
+    @Override
+    public synchronized void accept(List<FinancialChangeEvent> events) {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream();
+        long written = lastOffset;
+
+        try {
+            for (FinancialChangeEvent event : events) {
+                if (event.offset() <= written) {
+                    continue;
+                }
+
+                lines.write(objectMapper.writeValueAsBytes(event));
+                lines.write('\n');
+                written = event.offset();
+            }
+
+            if (lines.size() == 0) {
+                return;
+            }
+
+            append(ByteBuffer.wrap(lines.toByteArray()));
+            lastOffset = written;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error appending to financial change log " + path, e);
+        }
+    }
+
+    @Override
+    public synchronized long lastOffset() {
+        return lastOffset;
+    }
+
+    @PreDestroy
+    synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private void append(ByteBuffer buffer) throws IOException {
+        long start = channel.size();
+
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            channel.truncate(start);
+            throw e;
+        }
+    }
+
+    private long recoverLastOffset() throws IOException {
+        long size = channel.size();
+        long end = lastNewline(size);
+
+        if (end + 1 < size) {
+            log.warn("Truncating {} torn bytes from financial change log {}", size - end - 1, path);
+            channel.truncate(end + 1);
+        }
+
+        if (end < 0) {
+            return 0;
+        }
+
+        long start = lastNewline(end) + 1;
+        ByteBuffer line = ByteBuffer.allocate((int) (end - start));
+        readFully(line, start);
+
+        return objectMapper.readTree(new String(line.array(), StandardCharsets.UTF_8)).get("offset").asLong();
+    }
+
+    private long lastNewline(long before) throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocate(TAIL_CHUNK);
+        long position = before;
+
+        while (position > 0) {
+            int length = (int) Math.min(TAIL_CHUNK, position);
+            position -= length;
+
+            chunk.clear().limit(length);
+            readFully(chunk, position);
+
+            for (int i = length - 1; i >= 0; i--) {
+                if (chunk.get(i) == '\n') {
+                    return position + i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Unexpected end of financial change log " + path);
+            }
+        }
+    }
+}
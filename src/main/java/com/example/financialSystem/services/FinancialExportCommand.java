@@ -0,0 +1,71 @@
+package com.example.financialSystem.services;
+
+import com.example.financialSystem.models.enums.ExportFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(name = "export.output")
+public class FinancialExportCommand implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(FinancialExportCommand.class);
+
+    private final FinancialExportService financialExportService;
+    private final ConfigurableApplicationContext context;
+    private final String output;
+    private final String userId;
+    private final ExportFormat format;
+    private final boolean exitWhenDone;
+
+    public FinancialExportCommand(FinancialExportService financialExportService,
+                                  ConfigurableApplicationContext context,
+                                  @Value("${export.output}") String output,
+                                  @Value("${export.user-id:}") String userId,
+                                  @Value("${export.format:CSV}") ExportFormat format,
+                                  @Value("${export.exit:true}") boolean exitWhenDone) {
+        this.financialExportService = financialExportService;
+        this.context = context;
+        this.output = output;
+        this.userId = userId;
+        this.format = format;
+        this.exitWhenDone = exitWhenDone;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Path path = Path.of(output).toAbsolutePath();
+        Files.createDirectories(path.getParent());
+
+        Path temp = Files.createTempFile(path.getParent(), "financial-export", ".tmp");
+        long started = System.nanoTime();
+        long rows;
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp), 64 * 1024)) {
+            rows = financialExportService.export(userId.isBlank() ? null : UUID.fromString(userId), format, out);
+        } catch (Exception e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("Exported {} financial rows as {} to {} in {}ms",
+                rows, format, path, (System.nanoTime() - started) / 1_000_000);
+
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.financialSystem.services;
+
+import com.example.financialSystem.models.enums.ExportFormat;
+import com.example.financialSystem.repositories.LoginRepository;
+import com.example.financialSystem.utils.ColumnarWriter;
+import com.example.financialSystem.utils.ColumnarWriter.Column;
+import com.example.financialSystem.utils.ColumnarWriter.ColumnType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+public class FinancialExportService extends UserLoggedService {
+    public static final List<Column> COLUMNS = List.of(
+            new Column("user_id", ColumnType.UUID),
+            new Column("id", ColumnType.UUID),
+            new Column("financial_type", ColumnType.STRING),
+            new Column("category", ColumnType.STRING),
+            new Column("date_financial", ColumnType.DATE),
+            new Column("value", ColumnType.DECIMAL),
+            new Column("base_currency", ColumnType.STRING),
+            new Column("description", ColumnType.STRING),
+            new Column("payment_method", ColumnType.STRING),
+            new Column("is_fixed", ColumnType.BOOLEAN),
+            new Column("broker_name", ColumnType.STRING),
+            new Column("action_quantity", ColumnType.INT),
+            new Column("deleted", ColumnType.BOOLEAN),
+            new Column("created_at", ColumnType.TIMESTAMP),
+            new Column("updated_at", ColumnType.TIMESTAMP)
+    );
+
+    private static final String SELECT = "SELECT f.user_id, f.id, f.financial_type, " +
+            "COALESCE(CAST(e.expense_type AS VARCHAR(255)), CAST(c.cost_type AS VARCHAR(255)), " +
+            "CAST(i.investment_type AS VARCHAR(255))) AS category, " +
+            "f.date_financial, f.value, f.base_currency, f.description, e.payment_method, e.is_fixed, " +
+            "i.broker_name, i.action_quantity, f.deleted, f.created_at, f.updated_at " +
+            "FROM financial f " +
+            "LEFT JOIN expense e ON e.id = f.id " +
+            "LEFT JOIN cost c ON c.id = f.id " +
+            "LEFT JOIN investment i ON i.id = f.id ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int rowGroupSize;
+
+    public FinancialExportService(LoginRepository loginRepository,
+                                  DataSource dataSource,
+                                  @Value("${export.fetch-size:500}") int fetchSize,
+                                  @Value("${export.row-group-size:4096}") int rowGroupSize) {
+        super(loginRepository);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.rowGroupSize = rowGroupSize;
+    }
+
+    @Transactional(readOnly = true)
+    public long exportMine(ExportFormat format, OutputStream out) throws IOException {
+        return export(getLoggedUser().getUser().getId(), format, out);
+    }
+
+    @Transactional(readOnly = true)
+    public long export(UUID userId, ExportFormat format, OutputStream out) throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(out, 64 * 1024);
+        RowSink sink = format == ExportFormat.CSV ? new CsvSink(gzip) : new ColumnarSink(gzip, rowGroupSize);
+
+        String sql = userId == null
+                ? SELECT + "ORDER BY f.user_id, f.date_financial, f.id"
+                : SELECT + "WHERE f.user_id = ? ORDER BY f.date_financial, f.id";
+        Object[] args = userId == null ? new Object[0] : new Object[]{userId};
+
+        long[] rows = {0};
+        try {
+            jdbcTemplate.query(sql, (ResultSet rs) -> {
+                try {
+                    sink.write(read(rs));
+                    rows[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, args);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        sink.finish();
+        gzip.finish();
+        out.flush();
+
+        return rows[0];
+    }
+
+    private static Object[] read(ResultSet rs) throws SQLException {
+        Object[] row = new Object[COLUMNS.size()];
+
+        row[0] = rs.getObject(1, UUID.class);
+        row[1] = rs.getObject(2, UUID.class);
+        row[2] = rs.getString(3);
+        row[3] = rs.getString(4);
+        row[4] = rs.getObject(5, LocalDate.class);
+        row[5] = rs.getBigDecimal(6);
+        row[6] = rs.getString(7);
+        row[7] = rs.getString(8);
+        row[8] = rs.getString(9);
+        row[9] = rs.getObject(10, Boolean.class);
+        row[10] = rs.getString(11);
+        row[11] = rs.getObject(12, Integer.class);
+        row[12] = rs.getObject(13, Boolean.class);
+        row[13] = rs.getObject(14, LocalDateTime.class);
+        row[14] = rs.getObject(15, LocalDateTime.class);
+
+        return row;
+    }
+
+    private interface RowSink {
+        void write(Object[] row) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    private static final class CsvSink implements RowSink {
+        private final Writer writer;
+
+        CsvSink(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+            writer.write(COLUMNS.stream().map(Column::name).collect(Collectors.joining(",")));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(Object[] row) throws IOException {
+            for (int c = 0; c < row.length; c++) {
+                if (c > 0) {
+                    writer.write(',');
+                }
+                writeField(row[c]);
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        private void writeField(Object value) throws IOException {
+            if (value == null) {
+                return;
+            }
+
+            String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+
+            if (value instanceof String && isFormulaLike(text)) {
+                text = "'" + text;
+            } else if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+                writer.write(text);
+                return;
+            }
+
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        private static boolean isFormulaLike(String text) {
+            if (text.isEmpty()) {
+                return false;
+            }
+
+            char first = text.charAt(0);
+            return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+        }
+    }
+
+    private static final class ColumnarSink implements RowSink {
+        private final ColumnarWriter writer;
+
+        ColumnarSink(OutputStream out, int rowGroupSize) throws IOException {
+            this.writer = new ColumnarWriter(out, COLUMNS, rowGroupSize);
+        }
+
+        @Override
+        public void write(Object[] row) throws IOException {
+            writer.write(row);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.close();
+        }
+    }
+}
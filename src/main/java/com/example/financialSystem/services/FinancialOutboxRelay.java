@@ -0,0 +1,110 @@
+package com.example.financialSystem.services;
+
+import com.example.financialSystem.models.dto.responses.FinancialChangeEvent;
+import com.example.financialSystem.models.entity.FinancialOutboxEvent;
+import com.example.financialSystem.repositories.FinancialOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Component
+public class FinancialOutboxRelay {
+    private static final Logger log = LoggerFactory.getLogger(FinancialOutboxRelay.class);
+
+    private final FinancialOutboxRepository financialOutboxRepository;
+    private final List<FinancialChangeConsumer> consumers;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration retention;
+
+    public FinancialOutboxRelay(FinancialOutboxRepository financialOutboxRepository,
+                                List<FinancialChangeConsumer> consumers,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${outbox.relay.batch-size:500}") int batchSize,
+                                @Value("${outbox.retention-days:30}") long retentionDays) {
+        this.financialOutboxRepository = financialOutboxRepository;
+        this.consumers = consumers;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.retention = Duration.ofDays(retentionDays);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}")
+    public synchronized int publishPending() {
+        int assigned = transactionTemplate.execute(status -> assignOffsets());
+
+        consumers.forEach(this::deliver);
+
+        return assigned;
+    }
+
+    @Scheduled(cron = "${outbox.prune.cron:0 45 3 * * *}")
+    @Transactional
+    public void prunePublished() {
+        int deleted = financialOutboxRepository.deletePublishedBefore(Instant.now().minus(retention));
+
+        if (deleted > 0) {
+            log.info("Pruned {} published financial change events", deleted);
+        }
+    }
+
+    private int assignOffsets() {
+        List<FinancialOutboxEvent> pending = financialOutboxRepository
+                .findByFeedOffsetIsNullOrderByIdAsc(Limit.of(batchSize));
+
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        long offset = financialOutboxRepository.findLastOffset();
+        Instant now = Instant.now();
+
+        for (FinancialOutboxEvent event : pending) {
+            event.setFeedOffset(++offset);
+            event.setPublishedAt(now);
+        }
+
+        financialOutboxRepository.saveAll(pending);
+
+        log.debug("Assigned {} financial change events up to offset {}", pending.size(), offset);
+        return pending.size();
+    }
+
+    private void deliver(FinancialChangeConsumer consumer) {
+        long after = consumer.lastOffset();
+
+        try {
+            while (true) {
+                List<FinancialChangeEvent> events = financialOutboxRepository
+                        .findByFeedOffsetGreaterThanOrderByFeedOffsetAsc(after, Limit.of(batchSize)).stream()
+                        .map(FinancialChangeEvent::of)
+                        .toList();
+
+                if (events.isEmpty()) {
+                    return;
+                }
+
+                consumer.accept(events);
+
+                long delivered = consumer.lastOffset();
+                if (events.size() < batchSize || delivered <= after) {
+                    return;
+                }
+                after = delivered;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Financial change consumer {} failed after offset {}, retrying on the next run",
+                    consumer.getClass().getSimpleName(), after, e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.financialSystem.services;
+
+import com.example.financialSystem.models.dto.responses.ChangeFeedResponse;
+import com.example.financialSystem.models.dto.responses.FinancialChangeEvent;
+import com.example.financialSystem.models.entity.Financial;
+import com.example.financialSystem.models.entity.FinancialOutboxEvent;
+import com.example.financialSystem.models.enums.ChangeType;
+import com.example.financialSystem.repositories.FinancialOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+
+@Service
+public class FinancialOutboxService {
+    private static final int MAX_FEED_LIMIT = 1000;
+
+    private final FinancialOutboxRepository financialOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public FinancialOutboxService(FinancialOutboxRepository financialOutboxRepository, ObjectMapper objectMapper) {
+        this.financialOutboxRepository = financialOutboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Financial financial, ChangeType changeType, Object payload) {
+        financialOutboxRepository.save(toEvent(financial, changeType, payload, Instant.now()));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <F extends Financial> void recordAll(List<F> financials, ChangeType changeType,
+                                                Function<F, ?> payload) {
+        Instant now = Instant.now();
+
+        financialOutboxRepository.saveAll(financials.stream()
+                .map(financial -> toEvent(financial, changeType, payload.apply(financial), now))
+                .toList());
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
+    public ChangeFeedResponse changesAfter(long offset, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_FEED_LIMIT);
+        List<FinancialChangeEvent> events = financialOutboxRepository
+                .findByFeedOffsetGreaterThanOrderByFeedOffsetAsc(offset, Limit.of(size)).stream()
+                .map(FinancialChangeEvent::of)
+                .toList();
+
+        long nextOffset = events.isEmpty() ? offset : events.get(events.size() - 1).offset();
+
+        return new ChangeFeedResponse(events, nextOffset, events.size() == size);
+    }
+
+    private FinancialOutboxEvent toEvent(Financial financial, ChangeType changeType, Object payload, Instant now) {
+        try {
+            return new FinancialOutboxEvent(
+                    financial.getId(),
+                    financial.getUser().getId(),
+                    financial.getFinancialType(),
+                    changeType,
+                    objectMapper.writeValueAsString(payload),
+                    now
+            );
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize change event for " + financial.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.financialSystem.services;
+
+import com.example.financialSystem.models.dto.projections.MonthlyTotalRow;
+import com.example.financialSystem.models.dto.responses.MonthlySummaryResponse;
+import com.example.financialSystem.models.dto.responses.MonthlyTotalResponse;
+import com.example.financialSystem.models.entity.BalanceRollup;
+import com.example.financialSystem.models.entity.User;
+import com.example.financialSystem.repositories.BalanceRollupRepository;
+import com.example.financialSystem.repositories.CostRepository;
+import com.example.financialSystem.repositories.ExpenseRepository;
+import com.example.financialSystem.repositories.LoginRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+@Service
+public class FinancialSummaryService extends UserLoggedService {
+    private static final int DEFAULT_MONTHS = 12;
+
+    private final ExpenseRepository expenseRepository;
+    private final CostRepository costRepository;
+    private final BalanceRollupRepository balanceRollupRepository;
+    private final Clock clock;
+
+    public FinancialSummaryService(LoginRepository loginRepository, ExpenseRepository expenseRepository,
+                                   CostRepository costRepository, BalanceRollupRepository balanceRollupRepository,
+                                   Clock clock) {
+        super(loginRepository);
+        this.expenseRepository = expenseRepository;
+        this.costRepository = costRepository;
+        this.balanceRollupRepository = balanceRollupRepository;
+        this.clock = clock;
+    }
+
+    @Transactional(readOnly = true)
+    public MonthlySummaryResponse getMonthlySummary(LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now(clock);
+        LocalDate start = defaultStart(from, end);
+
+        User user = getLoggedUser().getUser();
+
+        return new MonthlySummaryResponse(
+                start,
+                end,
+                toResponses(expenseRepository.sumMonthlyByType(user, start, end)),
+                toResponses(costRepository.sumMonthlyByType(user, start, end))
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public List<MonthlyTotalResponse> getMonthlyBalance(YearMonth from, YearMonth to) {
+        YearMonth end = to != null ? to : YearMonth.now();
+        LocalDate start = defaultStart(from != null ? from.atDay(1) : null, end.atEndOfMonth());
+
+        List<BalanceRollup> rollups = balanceRollupRepository
+                .findByUserIdAndPeriodStartBetweenOrderByPeriodStartAscFinancialTypeAscCurrencyAsc(
+                        getLoggedUser().getUser().getId(), start.withDayOfMonth(1), end.atDay(1));
+
+        return rollups.stream()
+                .filter(rollup -> rollup.getEntryCount() > 0)
+                .map(rollup -> new MonthlyTotalResponse(
+                        YearMonth.from(rollup.getPeriodStart()),
+                        rollup.getFinancialType().name(),
+                        rollup.getCurrency(),
+                        rollup.getTotal(),
+                        rollup.getEntryCount()))
+                .toList();
+    }
+
+    private static LocalDate defaultStart(LocalDate from, LocalDate end) {
+        LocalDate start = from != null ? from : YearMonth.from(end).minusMonths(DEFAULT_MONTHS - 1L).atDay(1);
+
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+
+        return start;
+    }
+
+    private static List<MonthlyTotalResponse> toResponses(List<MonthlyTotalRow> rows) {
+        return rows.stream()
+                .map(row -> new MonthlyTotalResponse(
+                        YearMonth.of(row.year(), row.month()),
+                        row.category(),
+                        row.currency(),
+                        row.total(),
+                        row.count()))
+                .toList();
+    }
+}
@@ -3,47 +3,89 @@ package com.example.financialSystem.services;
 import com.example.financialSystem.exceptions.NoChangeDetectedException;
 import com.example.financialSystem.exceptions.duplicates.InvestmentDuplicateException;
 import com.example.financialSystem.exceptions.notFound.InvestmentNotFoundException;
+import com.example.financialSystem.exceptions.notFound.PriceHistoryNotFoundException;
 import com.example.financialSystem.models.dto.requests.InvestmentPatchRequest;
 import com.example.financialSystem.models.dto.requests.InvestmentRequest;
+import com.example.financialSystem.models.dto.responses.CursorPageResponse;
 import com.example.financialSystem.models.dto.responses.InvestmentResponse;
+import com.example.financialSystem.models.dto.responses.MonteCarloSimulationResponse;
+import com.example.financialSystem.models.dto.responses.PortfolioSimulationResponse;
+import com.example.financialSystem.models.dto.responses.PortfolioTotalResponse;
+import com.example.financialSystem.models.dto.responses.PositionProjectionResponse;
+import com.example.financialSystem.models.dto.responses.RiskProjectionResponse;
 import com.example.financialSystem.models.entity.Investment;
-import com.example.financialSystem.models.entity.Login;
 import com.example.financialSystem.models.entity.User;
+import com.example.financialSystem.models.enums.ChangeType;
 import com.example.financialSystem.models.enums.InvestmentType;
 import com.example.financialSystem.models.enums.SupportedCrypto;
 import com.example.financialSystem.models.enums.UserRole;
 import com.example.financialSystem.models.mapper.InvestmentMapper;
 import com.example.financialSystem.repositories.InvestmentRepository;
 import com.example.financialSystem.repositories.LoginRepository;
-import org.springframework.security.access.AccessDeniedException;
+import com.example.financialSystem.utils.BenchMarkRate;
+import com.example.financialSystem.utils.CompoundingGrid;
+import com.example.financialSystem.utils.KeysetCursor;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
 public class InvestmentService extends UserLoggedService {
+    private static final int[] DEFAULT_HORIZONS = {30, 90, 365, 1825};
+    private static final int MAX_HORIZONS = 32;
+    private static final int MAX_HORIZON_DAYS = 36500;
+
     private final InvestmentRepository investmentRepository;
     private final InvestmentMapper investmentMapper;
+    private final BalanceRollupService balanceRollupService;
+    private final FinancialOutboxService financialOutboxService;
     private final CurrencyService currencyService;
-    private final CryptoService cryptoService;
+    private final PriceSeriesStore priceSeriesStore;
+    private final InvestmentValuationPipeline valuationPipeline;
+    private final JsonStreamingService jsonStreamingService;
+    private final MonteCarloEngine monteCarloEngine;
+    private final Clock clock;
 
     public InvestmentService(LoginRepository loginRepository,
                              InvestmentRepository investmentRepository,
                              InvestmentMapper investmentMapper,
                              CurrencyService currencyService,
-                             CryptoService cryptoService) {
+                             PriceSeriesStore priceSeriesStore,
+                             InvestmentValuationPipeline valuationPipeline,
+                             JsonStreamingService jsonStreamingService,
+                             BalanceRollupService balanceRollupService,
+                             MonteCarloEngine monteCarloEngine,
+                             FinancialOutboxService financialOutboxService,
+                             Clock clock) {
         super(loginRepository);
         this.investmentRepository = investmentRepository;
         this.investmentMapper = investmentMapper;
+        this.balanceRollupService = balanceRollupService;
+        this.financialOutboxService = financialOutboxService;
         this.currencyService = currencyService;
-        this.cryptoService = cryptoService;
+        this.priceSeriesStore = priceSeriesStore;
+        this.valuationPipeline = valuationPipeline;
+        this.jsonStreamingService = jsonStreamingService;
+        this.monteCarloEngine = monteCarloEngine;
+        this.clock = clock;
     }
 
     @Transactional
@@ -65,94 +107,132 @@ public class InvestmentService extends UserLoggedService {
 
         recalculateFields(investment);
 
-        return investmentMapper.toResponse(investmentRepository.save(investment));
+        Investment saved = investmentRepository.save(investment);
+        balanceRollupService.apply(null, BalanceRollupService.Contribution.of(saved));
+
+        InvestmentResponse response = investmentMapper.toResponse(saved);
+        financialOutboxService.record(saved, ChangeType.CREATED, response);
+
+        return response;
     }
 
     @Transactional
     public InvestmentResponse updateInvestment(UUID id, InvestmentRequest request) {
-        Investment existingInvestment = investmentRepository.findById(id)
-                .orElseThrow(() -> new InvestmentNotFoundException(id));
-
-        validateOwnerShip(existingInvestment);
+        Investment existingInvestment = findOwnedInvestment(id);
         validateInvestmentDate(existingInvestment.getDateFinancial());
 
         ensureChanged(existingInvestment, request);
 
+        BalanceRollupService.Contribution before = BalanceRollupService.Contribution.of(existingInvestment);
         investmentMapper.updateEntityFromUpdate(request, existingInvestment);
 
         recalculateFields(existingInvestment);
-        return investmentMapper.toResponse(investmentRepository.save(existingInvestment));
+        Investment saved = investmentRepository.save(existingInvestment);
+        balanceRollupService.apply(before, BalanceRollupService.Contribution.of(saved));
+
+        InvestmentResponse response = investmentMapper.toResponse(saved);
+        financialOutboxService.record(saved, ChangeType.UPDATED, response);
+
+        return response;
     }
 
     @Transactional
     public InvestmentResponse patchInvestment(UUID id, InvestmentPatchRequest patchRequest) {
-        Investment existingInvestment = investmentRepository.findById(id)
-                .orElseThrow(() -> new InvestmentNotFoundException(id));
-
-        validateOwnerShip(existingInvestment);
+        Investment existingInvestment = findOwnedInvestment(id);
         validateInvestmentDate(existingInvestment.getDateFinancial());
 
+        BalanceRollupService.Contribution before = BalanceRollupService.Contribution.of(existingInvestment);
         investmentMapper.updateEntityFromPatch(patchRequest, existingInvestment);
 
         recalculateFields(existingInvestment);
-        return investmentMapper.toResponse(investmentRepository.save(existingInvestment));
+        Investment saved = investmentRepository.save(existingInvestment);
+        balanceRollupService.apply(before, BalanceRollupService.Contribution.of(saved));
+
+        InvestmentResponse response = investmentMapper.toResponse(saved);
+        financialOutboxService.record(saved, ChangeType.UPDATED, response);
+
+        return response;
     }
 
     public InvestmentResponse getInvestmentById(UUID id) {
-        Investment investment = investmentRepository.findById(id)
-                .orElseThrow(() -> new InvestmentNotFoundException(id));
-
-        validateOwnerShip(investment);
+        Investment investment = findOwnedInvestment(id);
         recalculateFields(investment);
 
         return investmentMapper.toResponse(investment);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
     public List<InvestmentResponse> listAllInvestments() {
-        List<Investment> investments = investmentRepository.findAllActive();
-
-        investments.forEach(this::recalculateFields);
+        List<InvestmentResponse> investments = investmentRepository.findAllActiveResponses();
 
-        return investmentMapper.toResponseList(investments);
+        return valuationPipeline.valuate(
+                investments,
+                this::valueResponses,
+                this::valueResponsesAtInvestedValue
+        );
     }
 
+    @Transactional(readOnly = true)
     public List<InvestmentResponse> listInvestments() {
-        List<Investment> investments = investmentRepository.findByUserAndDeletedFalse(getLoggedUser().getUser());
+        return valueResponses(investmentRepository.findResponsesByUser(getLoggedUser().getUser()));
+    }
 
-        investments.forEach(this::recalculateFields);
+    @PreAuthorize("hasRole('ADMIN')")
+    public CursorPageResponse<InvestmentResponse> listAllInvestmentsPage(String cursor, int size) {
+        Window<Investment> window = investmentRepository.findByDeletedFalse(
+                KeysetCursor.decode(cursor), KeysetCursor.SORT, KeysetCursor.limit(size));
 
-        return investmentMapper.toResponseList(investments);
+        return KeysetCursor.toPage(window, this::toValuedResponses);
+    }
+
+    public CursorPageResponse<InvestmentResponse> listInvestmentsPage(String cursor, int size) {
+        Window<Investment> window = investmentRepository.findByUserAndDeletedFalse(
+                getLoggedUser().getUser(), KeysetCursor.decode(cursor), KeysetCursor.SORT, KeysetCursor.limit(size));
+
+        return KeysetCursor.toPage(window, this::toValuedResponses);
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
+    public void streamAllInvestments(OutputStream out) throws IOException {
+        jsonStreamingService.writeArray(out, investmentRepository.streamAllActive(), this::toValuedResponses);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamInvestments(OutputStream out) throws IOException {
+        jsonStreamingService.writeArray(out,
+                investmentRepository.streamByUser(getLoggedUser().getUser()), this::toValuedResponses);
     }
 
     @Transactional
     public void activateInvestment(UUID id) {
-        Investment investment = investmentRepository.findById(id)
-                .orElseThrow(() -> new InvestmentNotFoundException(id));
-
-        validateOwnerShip(investment);
+        Investment investment = findOwnedInvestment(id);
 
         if (Boolean.FALSE.equals(investment.getDeleted())) {
             throw new IllegalStateException("Investment is already active");
         }
 
+        BalanceRollupService.Contribution before = BalanceRollupService.Contribution.of(investment);
         investment.setDeleted(Boolean.FALSE);
         investmentRepository.save(investment);
+        balanceRollupService.apply(before, BalanceRollupService.Contribution.of(investment));
+        financialOutboxService.record(investment, ChangeType.RESTORED, investmentMapper.toResponse(investment));
     }
 
     @Transactional
     public void deleteInvestment(UUID id) {
-        Investment investment = investmentRepository.findById(id)
-                .orElseThrow(() -> new InvestmentNotFoundException(id));
-
-        validateOwnerShip(investment);
+        Investment investment = findOwnedInvestment(id);
 
         if (Boolean.TRUE.equals(investment.getDeleted())) {
             throw new IllegalStateException("Investment is already deleted");
         }
 
+        BalanceRollupService.Contribution before = BalanceRollupService.Contribution.of(investment);
         investment.setDeleted(Boolean.TRUE);
         investmentRepository.save(investment);
+        balanceRollupService.apply(before, BalanceRollupService.Contribution.of(investment));
+        financialOutboxService.record(investment, ChangeType.DELETED, investmentMapper.toResponse(investment));
     }
 
     public InvestmentResponse simulateInvestment(UUID id, int days) {
@@ -160,10 +240,7 @@ public class InvestmentService extends UserLoggedService {
             throw new IllegalArgumentException("Days must be greater than zero");
         }
 
-        Investment investment = investmentRepository.findById(id)
-                .orElseThrow(() -> new InvestmentNotFoundException(id));
-
-        validateOwnerShip(investment);
+        Investment investment = findOwnedInvestment(id);
 
         double annualRate = getAnnualRate(investment);
 
@@ -177,7 +254,196 @@ public class InvestmentService extends UserLoggedService {
         return resp;
     }
 
-    private BigDecimal calculateFutureValue(BigDecimal initialValue, double annualRate, int days) {
+    public InvestmentResponse valueInvestmentAsOf(UUID id, LocalDate date) {
+        Investment investment = findOwnedInvestment(id);
+
+        if (date.isBefore(investment.getDateFinancial())) {
+            throw new IllegalArgumentException("Valuation date cannot be before the investment date");
+        }
+
+        return toResponseAsOf(investment, date);
+    }
+
+    public List<InvestmentResponse> valueInvestmentsAsOf(LocalDate date) {
+        return investmentRepository.findByUserAndDeletedFalse(getLoggedUser().getUser()).stream()
+                .filter(investment -> !date.isBefore(investment.getDateFinancial()))
+                .map(investment -> toResponseAsOf(investment, date))
+                .toList();
+    }
+
+    private InvestmentResponse toResponseAsOf(Investment investment, LocalDate date) {
+        if (date.isAfter(today())) {
+            throw new IllegalArgumentException("Valuation date cannot be in the future");
+        }
+
+        InvestmentResponse resp = investmentMapper.toResponse(investment);
+        resp.setCurrentValue(calculateHistoricalValue(investment, date));
+        resp.setDaysInvested(Math.toIntExact(ChronoUnit.DAYS.between(investment.getDateFinancial(), date)));
+
+        return resp;
+    }
+
+    public PortfolioSimulationResponse simulatePortfolio(List<Integer> horizons) {
+        int[] days = normalizeHorizons(horizons);
+
+        List<Investment> investments =
+                investmentRepository.findByUserAndDeletedFalse(getLoggedUser().getUser());
+
+        return projectPortfolio(investments, days);
+    }
+
+    PortfolioSimulationResponse projectPortfolio(List<Investment> investments, int[] days) {
+        int positions = investments.size();
+        int width = days.length;
+
+        double[] principals = new double[positions];
+        double[] rates = new double[positions];
+
+        for (int i = 0; i < positions; i++) {
+            Investment investment = investments.get(i);
+            principals[i] = investment.getValue().doubleValue();
+            rates[i] = getAnnualRate(investment);
+        }
+
+        double[] grid = CompoundingGrid.project(principals, rates, days);
+
+        Map<BenchMarkRate, double[]> totals = new EnumMap<>(BenchMarkRate.class);
+        List<PositionProjectionResponse> projections = new ArrayList<>(positions);
+
+        for (int i = 0; i < positions; i++) {
+            Investment investment = investments.get(i);
+            double[] total = totals.computeIfAbsent(investment.getBaseCurrency(), c -> new double[width + 1]);
+            total[0] += principals[i];
+
+            List<BigDecimal> projected = new ArrayList<>(width);
+            for (int h = 0; h < width; h++) {
+                double value = grid[i * width + h];
+                total[h + 1] += value;
+                projected.add(toMoney(value));
+            }
+
+            projections.add(new PositionProjectionResponse(
+                    investment.getId(),
+                    investment.getInvestmentType(),
+                    investment.getBaseCurrency(),
+                    investment.getValue(),
+                    rates[i],
+                    projected
+            ));
+        }
+
+        List<PortfolioTotalResponse> totalResponses = new ArrayList<>(totals.size());
+        totals.forEach((currency, total) -> {
+            List<BigDecimal> projected = new ArrayList<>(width);
+            for (int h = 1; h <= width; h++) {
+                projected.add(toMoney(total[h]));
+            }
+            totalResponses.add(new PortfolioTotalResponse(currency, toMoney(total[0]), projected));
+        });
+
+        return new PortfolioSimulationResponse(
+                Arrays.stream(days).boxed().toList(),
+                projections,
+                totalResponses
+        );
+    }
+
+    public MonteCarloSimulationResponse simulateRisk(int days, Integer paths) {
+        if (days <= 0 || days > MAX_HORIZON_DAYS) {
+            throw new IllegalArgumentException("Days must be between 1 and " + MAX_HORIZON_DAYS);
+        }
+
+        int resolvedPaths = monteCarloEngine.resolvePaths(paths);
+
+        List<Investment> investments =
+                investmentRepository.findByUserAndDeletedFalse(getLoggedUser().getUser());
+
+        return projectRisk(investments, days, resolvedPaths);
+    }
+
+    MonteCarloSimulationResponse projectRisk(List<Investment> investments, int days, int paths) {
+        record RiskFactor(BenchMarkRate currency, InvestmentType type, double rate) {
+        }
+
+        Map<RiskFactor, Double> exposures = new LinkedHashMap<>();
+        for (Investment investment : investments) {
+            RiskFactor factor = new RiskFactor(investment.getBaseCurrency(),
+                    investment.getInvestmentType(), getAnnualRate(investment));
+            exposures.merge(factor, investment.getValue().doubleValue(), Double::sum);
+        }
+
+        List<BenchMarkRate> currencies = exposures.keySet().stream()
+                .map(RiskFactor::currency).distinct().sorted().toList();
+
+        int factorCount = exposures.size();
+        double[] values = new double[factorCount];
+        double[] rates = new double[factorCount];
+        double[] volatilities = new double[factorCount];
+        int[] groups = new int[factorCount];
+        double[] invested = new double[currencies.size()];
+
+        int i = 0;
+        for (Map.Entry<RiskFactor, Double> exposure : exposures.entrySet()) {
+            RiskFactor factor = exposure.getKey();
+            values[i] = exposure.getValue();
+            rates[i] = factor.rate();
+            volatilities[i] = monteCarloEngine.volatilityOf(factor.type());
+            groups[i] = currencies.indexOf(factor.currency());
+            invested[groups[i]] += values[i];
+            i++;
+        }
+
+        double[][] outcomes = monteCarloEngine.simulate(values, rates, volatilities,
+                groups, currencies.size(), days, paths);
+
+        List<RiskProjectionResponse> projections = new ArrayList<>(currencies.size());
+        for (int g = 0; g < currencies.size(); g++) {
+            double[] sorted = outcomes[g];
+            projections.add(new RiskProjectionResponse(
+                    currencies.get(g),
+                    toMoney(invested[g]),
+                    toMoney(MonteCarloEngine.mean(sorted)),
+                    toMoney(MonteCarloEngine.percentile(sorted, 0.05)),
+                    toMoney(MonteCarloEngine.percentile(sorted, 0.50)),
+                    toMoney(MonteCarloEngine.percentile(sorted, 0.95))
+            ));
+        }
+
+        return new MonteCarloSimulationResponse(days, paths, projections);
+    }
+
+    private int[] normalizeHorizons(List<Integer> horizons) {
+        if (horizons == null || horizons.isEmpty()) {
+            return DEFAULT_HORIZONS.clone();
+        }
+
+        int[] days = horizons.stream()
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .distinct()
+                .sorted()
+                .toArray();
+
+        if (days.length == 0 || days[0] <= 0) {
+            throw new IllegalArgumentException("Horizons must be greater than zero");
+        }
+
+        if (days.length > MAX_HORIZONS) {
+            throw new IllegalArgumentException("At most " + MAX_HORIZONS + " horizons are allowed");
+        }
+
+        if (days[days.length - 1] > MAX_HORIZON_DAYS) {
+            throw new IllegalArgumentException("Horizons cannot exceed " + MAX_HORIZON_DAYS + " days");
+        }
+
+        return days;
+    }
+
+    private BigDecimal toMoney(double value) {
+        return BigDecimal.valueOf(value).setScale(4, RoundingMode.HALF_UP);
+    }
+
+    BigDecimal calculateFutureValue(BigDecimal initialValue, double annualRate, int days) {
         if (days < 0) days = 0;
 
         double dailyRate = Math.pow(1 + annualRate, 1.0 / 365) - 1;
@@ -188,59 +454,104 @@ public class InvestmentService extends UserLoggedService {
                 .setScale(4, RoundingMode.HALF_UP);
     }
 
-    private BigDecimal calculateCurrentValue(Investment investment) {
-        InvestmentType type = investment.getInvestmentType();
+    private BigDecimal calculateCurrentValue(Investment investment, LocalDate asOf) {
+        return calculateCurrentValue(investment.getInvestmentType(), investment.getBaseCurrency(),
+                investment.getDateFinancial(), investment.getValue(), investment.getActionQuantity(), asOf);
+    }
 
+    private BigDecimal calculateCurrentValue(InvestmentType type, BenchMarkRate currency, LocalDate dateFinancial,
+                                             BigDecimal value, int actionQuantity, LocalDate asOf) {
         if (type.isCrypto()) {
-            String coinGeckoId = type.getCoinGeckoId();
-            String fiatBase = investment.getBaseCurrency().name().toLowerCase();
-
-            Double cryptoPrice = cryptoService.getCryptoPrice(coinGeckoId, fiatBase);
+            Double cryptoPrice = priceSeriesStore.closeAsOf(
+                    PriceSeriesStore.cryptoKey(type.getCoinGeckoId(), currency.name()), asOf);
 
             if (cryptoPrice != null) {
                 BigDecimal price = BigDecimal.valueOf(cryptoPrice);
-                BigDecimal quantity = BigDecimal.valueOf(investment.getActionQuantity());
+                BigDecimal quantity = BigDecimal.valueOf(actionQuantity);
 
                 return price.multiply(quantity).setScale(4, RoundingMode.HALF_UP);
             }
 
-            return investment.getValue();
+            return value;
         }
 
-        int days = Math.toIntExact(ChronoUnit.DAYS.between(
-                investment.getDateFinancial(),
-                LocalDate.now()
-        ));
+        int days = Math.toIntExact(ChronoUnit.DAYS.between(dateFinancial, asOf));
 
-        double annualRate = getAnnualRate(investment);
+        double annualRate = getAnnualRate(type, currency, asOf);
+
+        return calculateFutureValue(value, annualRate, days);
+    }
+
+    private BigDecimal calculateHistoricalValue(Investment investment, LocalDate asOf) {
+        InvestmentType type = investment.getInvestmentType();
+        BenchMarkRate currency = investment.getBaseCurrency();
+
+        if (type.isCrypto()) {
+            BigDecimal price = BigDecimal.valueOf(
+                    storedCloseAsOf(PriceSeriesStore.cryptoKey(type.getCoinGeckoId(), currency.name()), asOf));
+            BigDecimal quantity = BigDecimal.valueOf(investment.getActionQuantity());
+
+            return price.multiply(quantity).setScale(4, RoundingMode.HALF_UP);
+        }
+
+        int days = Math.toIntExact(ChronoUnit.DAYS.between(investment.getDateFinancial(), asOf));
+
+        double annualRate = type.getRate() != null
+                ? type.getRate()
+                : storedCloseAsOf(PriceSeriesStore.rateKey(currency), asOf);
 
         return calculateFutureValue(investment.getValue(), annualRate, days);
     }
 
+    private double storedCloseAsOf(String seriesKey, LocalDate asOf) {
+        Double close = priceSeriesStore.closeAsOf(seriesKey, asOf);
+
+        if (close == null) {
+            throw new PriceHistoryNotFoundException(seriesKey, asOf);
+        }
+
+        return close;
+    }
+
     private double getAnnualRate(Investment investment) {
-        if (investment.getInvestmentType().getRate() != null) {
-            return investment.getInvestmentType().getRate();
+        return getAnnualRate(investment.getInvestmentType(), investment.getBaseCurrency());
+    }
+
+    private double getAnnualRate(InvestmentType type, BenchMarkRate currency) {
+        if (type.getRate() != null) {
+            return type.getRate();
         }
 
-        String currencyCode = investment.getBaseCurrency().name();
+        Double liveRate = currencyService.getLiveRates(currency.name());
 
-        return currencyService.getLiveRates(currencyCode);
+        return liveRate != null ? liveRate : 0.0;
+    }
+
+    private double getAnnualRate(InvestmentType type, BenchMarkRate currency, LocalDate asOf) {
+        if (type.getRate() == null) {
+            Double storedRate = priceSeriesStore.closeAsOf(PriceSeriesStore.rateKey(currency), asOf);
+
+            if (storedRate != null) {
+                return storedRate;
+            }
+        }
+
+        return getAnnualRate(type, currency);
     }
 
     private void validateInvestmentDate(LocalDate date) {
-        if (date.isAfter(LocalDate.now()))
+        if (date.isAfter(today()))
             throw new IllegalArgumentException("Investment date cannot be in the future");
     }
 
-    private void validateOwnerShip(Investment investment) {
-        Login loggedInUser = getLoggedUser();
+    private Investment findOwnedInvestment(UUID id) {
+        User user = getLoggedUser().getUser();
 
-        boolean isOwnerOrAdmin = investment.getUser().getId() == loggedInUser.getUser().getId()
-                || loggedInUser.getUser().getUserRole() == UserRole.ADMIN;
+        Optional<Investment> investment = user.getUserRole() == UserRole.ADMIN
+                ? investmentRepository.findById(id)
+                : investmentRepository.findByIdAndUserId(id, user.getId());
 
-        if (!isOwnerOrAdmin) {
-            throw new AccessDeniedException("You are not authorized to view this investment");
-        }
+        return investment.orElseThrow(() -> new InvestmentNotFoundException(id));
     }
 
     public void ensureChanged(Investment oldInvestment, InvestmentRequest newInvestmentReq) {
@@ -260,7 +571,59 @@ public class InvestmentService extends UserLoggedService {
     }
 
     public void recalculateFields(Investment investment) {
-        investment.setCurrentValue(calculateCurrentValue(investment));
+        recalculateFields(List.of(investment));
+    }
+
+    void recalculateFields(List<Investment> investments) {
+        LocalDate today = today();
+
+        investments.forEach(investment ->
+                investment.setCurrentValue(calculateCurrentValue(investment, today)));
     }
 
+    private List<InvestmentResponse> toValuedResponses(List<Investment> investments) {
+        recalculateFields(investments);
+        return investmentMapper.toResponseList(investments);
+    }
+
+    private List<InvestmentResponse> valueResponses(List<InvestmentResponse> responses) {
+        LocalDate today = today();
+        List<InvestmentResponse> valued = new ArrayList<>(responses.size());
+
+        for (InvestmentResponse response : responses) {
+            InvestmentResponse copy = copyOf(response, today);
+            copy.setCurrentValue(calculateCurrentValue(response.getInvestmentType(), response.getBaseCurrency(),
+                    response.getDateFinancial(), response.getValue(), response.getActionQuantity(), today));
+            valued.add(copy);
+        }
+
+        return valued;
+    }
+
+    private List<InvestmentResponse> valueResponsesAtInvestedValue(List<InvestmentResponse> responses) {
+        LocalDate today = today();
+        List<InvestmentResponse> valued = new ArrayList<>(responses.size());
+
+        for (InvestmentResponse response : responses) {
+            InvestmentResponse copy = copyOf(response, today);
+            copy.setCurrentValue(response.getValue());
+            copy.setValuationDegraded(true);
+            valued.add(copy);
+        }
+
+        return valued;
+    }
+
+    private static InvestmentResponse copyOf(InvestmentResponse response, LocalDate today) {
+        InvestmentResponse copy = new InvestmentResponse(response.getId(), response.getInvestmentType(),
+                response.getValue(), response.getDateFinancial(), response.getBaseCurrency(),
+                response.getActionQuantity(), response.getBrokerName());
+        copy.setDaysInvested((int) ChronoUnit.DAYS.between(response.getDateFinancial(), today));
+
+        return copy;
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(clock);
+    }
 }
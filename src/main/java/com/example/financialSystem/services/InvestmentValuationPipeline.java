@@ -0,0 +1,99 @@
+package com.example.financialSystem.services;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StopWatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+@Component
+public class InvestmentValuationPipeline {
+    private static final Logger log = LoggerFactory.getLogger(InvestmentValuationPipeline.class);
+
+    private final ExecutorService executor;
+    private final int chunkSize;
+    private final long timeoutMs;
+
+    public InvestmentValuationPipeline(@Value("${valuation.parallelism:0}") int parallelism,
+                                       @Value("${valuation.chunk-size:500}") int chunkSize,
+                                       @Value("${valuation.timeout-ms:5000}") long timeoutMs) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+
+        this.executor = new ForkJoinPool(threads);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.timeoutMs = timeoutMs;
+    }
+
+    public <T, R> List<R> valuate(List<T> items,
+                                  Function<List<T>, List<R>> chunkValuer,
+                                  Function<List<T>, List<R>> fallback) {
+        StopWatch stopWatch = new StopWatch("investment-valuation");
+
+        stopWatch.start("split");
+        List<List<T>> chunks = new ArrayList<>();
+        for (int start = 0; start < items.size(); start += chunkSize) {
+            chunks.add(items.subList(start, Math.min(start + chunkSize, items.size())));
+        }
+
+        List<Future<List<R>>> futures = new ArrayList<>(chunks.size());
+        for (List<T> chunk : chunks) {
+            futures.add(executor.submit(() -> chunkValuer.apply(chunk)));
+        }
+        stopWatch.stop();
+
+        stopWatch.start("valuation");
+        List<List<R>> chunkResults = new ArrayList<>(chunks.size());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        int timedOut = 0;
+
+        for (int i = 0; i < chunks.size(); i++) {
+            Future<List<R>> future = futures.get(i);
+
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                chunkResults.add(future.get(remaining, TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                // ForkJoinPool ignores interruption, so a running chunk keeps going; its result is just never merged.
+                future.cancel(false);
+                timedOut++;
+                chunkResults.add(fallback.apply(chunks.get(i)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Investment valuation was interrupted", e);
+            } catch (ExecutionException e) {
+                log.warn("Error valuing investments, using fallback for chunk {}", i, e.getCause());
+                chunkResults.add(fallback.apply(chunks.get(i)));
+            }
+        }
+        stopWatch.stop();
+
+        stopWatch.start("merge");
+        List<R> results = new ArrayList<>(items.size());
+        chunkResults.forEach(results::addAll);
+        stopWatch.stop();
+
+        log.info("Valued {} investments in {} chunks ({} timed out): split={}ms, valuation={}ms, merge={}ms",
+                items.size(), chunks.size(), timedOut,
+                stopWatch.getTaskInfo()[0].getTimeMillis(),
+                stopWatch.getTaskInfo()[1].getTimeMillis(),
+                stopWatch.getTaskInfo()[2].getTimeMillis());
+
+        return results;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
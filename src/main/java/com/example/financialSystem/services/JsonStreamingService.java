@@ -0,0 +1,64 @@
+package com.example.financialSystem.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Service
+public class JsonStreamingService {
+    private static final int CHUNK_SIZE = 500;
+
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    public JsonStreamingService(ObjectMapper objectMapper, EntityManager entityManager) {
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+    }
+
+    public <E, R> void writeArray(OutputStream out, Stream<E> rows, Function<List<E>, List<R>> chunkMapper)
+            throws IOException {
+        try (rows; JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+
+            List<E> chunk = new ArrayList<>(CHUNK_SIZE);
+            Iterator<E> iterator = rows.iterator();
+
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    writeChunk(generator, chunk, chunkMapper);
+                }
+            }
+
+            writeChunk(generator, chunk, chunkMapper);
+            generator.writeEndArray();
+        }
+    }
+
+    private <E, R> void writeChunk(JsonGenerator generator, List<E> chunk, Function<List<E>, List<R>> chunkMapper)
+            throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        for (R response : chunkMapper.apply(chunk)) {
+            generator.writeObject(response);
+        }
+
+        generator.flush();
+        chunk.clear();
+        entityManager.clear();
+    }
+}
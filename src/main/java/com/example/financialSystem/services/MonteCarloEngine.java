@@ -0,0 +1,152 @@
+package com.example.financialSystem.services;
+
+import com.example.financialSystem.models.enums.InvestmentType;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+@Component
+public class MonteCarloEngine {
+    private static final Logger log = LoggerFactory.getLogger(MonteCarloEngine.class);
+    private static final double DAYS_PER_YEAR = 365.0;
+
+    private final ForkJoinPool pool;
+    private final int parallelism;
+    private final long seed;
+    private final int defaultPaths;
+    private final int maxPaths;
+    private final Map<InvestmentType, Double> volatilities = new EnumMap<>(InvestmentType.class);
+
+    public MonteCarloEngine(@Value("${risk.monte-carlo.parallelism:0}") int parallelism,
+                            @Value("${risk.monte-carlo.seed:0}") long seed,
+                            @Value("${risk.monte-carlo.default-paths:10000}") int defaultPaths,
+                            @Value("${risk.monte-carlo.max-paths:200000}") int maxPaths,
+                            @Value("${risk.monte-carlo.volatility:}") List<String> volatilityOverrides) {
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(this.parallelism);
+        this.seed = seed;
+        this.defaultPaths = defaultPaths;
+        this.maxPaths = maxPaths;
+
+        for (InvestmentType type : InvestmentType.values()) {
+            volatilities.put(type, type.getVolatility());
+        }
+
+        for (String entry : volatilityOverrides) {
+            String[] parts = entry.trim().split(":", 2);
+            if (parts.length == 2 && !parts[0].isBlank() && !parts[1].isBlank()) {
+                volatilities.put(InvestmentType.valueOf(parts[0].trim()), Double.parseDouble(parts[1].trim()));
+            }
+        }
+    }
+
+    public int resolvePaths(Integer paths) {
+        if (paths == null) {
+            return defaultPaths;
+        }
+
+        if (paths <= 0 || paths > maxPaths) {
+            throw new IllegalArgumentException("Paths must be between 1 and " + maxPaths);
+        }
+
+        return paths;
+    }
+
+    public double volatilityOf(InvestmentType type) {
+        return volatilities.get(type);
+    }
+
+    public double[][] simulate(double[] values, double[] annualRates, double[] annualVolatilities,
+                               int[] groups, int groupCount, int days, int paths) {
+        long start = System.nanoTime();
+        int factors = values.length;
+        double years = days / DAYS_PER_YEAR;
+
+        double[] drifts = new double[factors];
+        double[] diffusions = new double[factors];
+        for (int i = 0; i < factors; i++) {
+            double sigma = annualVolatilities[i];
+            drifts[i] = (Math.log1p(annualRates[i]) - 0.5 * sigma * sigma) * years;
+            diffusions[i] = sigma * Math.sqrt(years);
+        }
+
+        double[][] outcomes = new double[groupCount][paths];
+        int tasks = Math.max(1, Math.min(parallelism, paths));
+        int chunk = (paths + tasks - 1) / tasks;
+
+        SplittableRandom root = seed != 0 ? new SplittableRandom(seed) : new SplittableRandom();
+        List<Future<?>> futures = new ArrayList<>(tasks);
+
+        for (int from = 0; from < paths; from += chunk) {
+            int to = Math.min(from + chunk, paths);
+            SplittableRandom random = root.split();
+            int first = from;
+
+            futures.add(pool.submit(() -> {
+                for (int path = first; path < to; path++) {
+                    for (int i = 0; i < factors; i++) {
+                        double shock = random.nextGaussian();
+                        outcomes[groups[i]][path] += values[i] * Math.exp(drifts[i] + diffusions[i] * shock);
+                    }
+                }
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Monte Carlo simulation was interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Monte Carlo simulation failed", e.getCause());
+            }
+        }
+
+        for (double[] outcome : outcomes) {
+            Arrays.sort(outcome);
+        }
+
+        log.info("Simulated {} paths over {} days for {} factors in {}ms",
+                paths, days, factors, (System.nanoTime() - start) / 1_000_000);
+
+        return outcomes;
+    }
+
+    public static double percentile(double[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+
+        double rank = quantile * (sorted.length - 1);
+        int lower = (int) Math.floor(rank);
+        int upper = Math.min(lower + 1, sorted.length - 1);
+
+        return sorted[lower] + (rank - lower) * (sorted[upper] - sorted[lower]);
+    }
+
+    public static double mean(double[] outcomes) {
+        double sum = 0.0;
+        for (double outcome : outcomes) {
+            sum += outcome;
+        }
+        return outcomes.length == 0 ? 0.0 : sum / outcomes.length;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.financialSystem.services;
+
+import com.example.financialSystem.models.enums.InvestmentType;
+import com.example.financialSystem.utils.BenchMarkRate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+@Component
+public class PriceBackfillJob {
+    private static final Logger log = LoggerFactory.getLogger(PriceBackfillJob.class);
+
+    private final PriceSeriesStore store;
+    private final CryptoService cryptoService;
+    private final CurrencyService currencyService;
+    private final int backfillDays;
+    private final int maxConcurrent;
+    private final Executor executor;
+    private final Clock clock;
+
+    public PriceBackfillJob(PriceSeriesStore store,
+                            CryptoService cryptoService,
+                            CurrencyService currencyService,
+                            @Value("${prices.backfill.days:365}") int backfillDays,
+                            @Value("${price.client.max-concurrent:4}") int maxConcurrent,
+                            @Qualifier("priceFetchExecutor") Executor executor,
+                            Clock clock) {
+        this.store = store;
+        this.cryptoService = cryptoService;
+        this.currencyService = currencyService;
+        this.backfillDays = backfillDays;
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    @Scheduled(cron = "${prices.backfill.cron:0 15 0 * * *}", zone = "UTC")
+    public void backfill() {
+        LocalDate today = LocalDate.now(clock);
+        Semaphore permits = new Semaphore(maxConcurrent);
+        List<CompletableFuture<Integer>> fetches = new ArrayList<>();
+
+        for (CryptoService.QuoteKey key : cryptoKeys()) {
+            String seriesKey = PriceSeriesStore.cryptoKey(key.coinGeckoId(), key.fiatCurrency());
+            LocalDate last = store.lastDay(seriesKey);
+
+            int days = last == null
+                    ? backfillDays
+                    : (int) Math.max(1, Math.min(backfillDays, ChronoUnit.DAYS.between(last, today)));
+
+            fetches.add(CompletableFuture.supplyAsync(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    return record(seriesKey, cryptoService.getDailyCloses(key.coinGeckoId(), key.fiatCurrency(), days));
+                } finally {
+                    permits.release();
+                }
+            }, executor));
+        }
+
+        int points = fetches.stream().mapToInt(CompletableFuture::join).sum();
+        points += recordRates();
+
+        log.info("Price backfill stored {} points", points);
+    }
+
+    @Scheduled(fixedDelayString = "${prices.refresh.interval-ms:900000}",
+            initialDelayString = "${prices.refresh.initial-delay-ms:60000}")
+    public void refreshLatest() {
+        LocalDate today = LocalDate.now(clock);
+
+        cryptoService.getCryptoPrices(cryptoKeys()).forEach((key, price) ->
+                store.record(PriceSeriesStore.cryptoKey(key.coinGeckoId(), key.fiatCurrency()), today, price));
+
+        recordRates();
+    }
+
+    private int recordRates() {
+        CurrencyService.RateSnapshot snapshot = currencyService.getSnapshot();
+
+        if (snapshot.updatedAt().equals(Instant.EPOCH)) {
+            return 0;
+        }
+
+        LocalDate day = snapshot.updatedAt().atZone(clock.getZone()).toLocalDate();
+        snapshot.rates().forEach((rate, value) -> store.record(PriceSeriesStore.rateKey(rate), day, value));
+
+        return snapshot.rates().size();
+    }
+
+    private int record(String seriesKey, Map<LocalDate, Double> closes) {
+        int[] days = new int[closes.size()];
+        double[] values = new double[closes.size()];
+
+        int i = 0;
+        for (Map.Entry<LocalDate, Double> close : closes.entrySet()) {
+            days[i] = (int) close.getKey().toEpochDay();
+            values[i] = close.getValue();
+            i++;
+        }
+
+        store.record(seriesKey, days, values);
+        return days.length;
+    }
+
+    private List<CryptoService.QuoteKey> cryptoKeys() {
+        List<CryptoService.QuoteKey> keys = new ArrayList<>();
+
+        for (InvestmentType type : InvestmentType.values()) {
+            if (!type.isCrypto()) {
+                continue;
+            }
+
+            for (BenchMarkRate fiat : BenchMarkRate.values()) {
+                keys.add(new CryptoService.QuoteKey(type.getCoinGeckoId(), fiat.name()));
+            }
+        }
+
+        return keys;
+    }
+}
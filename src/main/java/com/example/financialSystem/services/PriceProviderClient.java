@@ -0,0 +1,182 @@
+package com.example.financialSystem.services;
+
+import com.example.financialSystem.exceptions.PriceProviderException;
+import com.example.financialSystem.utils.CircuitBreaker;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class PriceProviderClient {
+    private final HttpClient httpClient;
+    private final Executor executor;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Duration requestTimeout;
+    private final int maxAttempts;
+    private final long backoffMs;
+    private final int maxConcurrent;
+    private final int failureThreshold;
+    private final long openMs;
+
+    private final Map<String, Guard> guards = new ConcurrentHashMap<>();
+
+    private record Guard(Semaphore bulkhead, CircuitBreaker breaker) {
+    }
+
+    public PriceProviderClient(ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${price.client.connect-timeout-ms:2000}") long connectTimeoutMs,
+                               @Value("${price.client.request-timeout-ms:5000}") long requestTimeoutMs,
+                               @Value("${price.client.max-attempts:3}") int maxAttempts,
+                               @Value("${price.client.backoff-ms:200}") long backoffMs,
+                               @Value("${price.client.max-concurrent:4}") int maxConcurrent,
+                               @Value("${price.client.breaker.failure-threshold:5}") int failureThreshold,
+                               @Value("${price.client.breaker.open-ms:30000}") long openMs,
+                               @Qualifier("priceHttpExecutor") Executor executor) {
+        this.executor = executor;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(executor)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMs = backoffMs;
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.failureThreshold = failureThreshold;
+        this.openMs = openMs;
+    }
+
+    public <T> T getJson(String client, String url, Map<String, String> headers, TypeReference<T> type) {
+        try {
+            return getJsonAsync(client, url, headers, type).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw cause instanceof RuntimeException runtime ? runtime : new PriceProviderException(cause.getMessage());
+        }
+    }
+
+    public <T> CompletableFuture<T> getJsonAsync(String client, String url, Map<String, String> headers,
+                                                 TypeReference<T> type) {
+        Guard guard = guardOf(client);
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        if (!guard.breaker().tryAcquire()) {
+            sample.stop(ExternalApiMetrics.timer(meterRegistry, client, "SHORT_CIRCUITED"));
+            return CompletableFuture.failedFuture(new PriceProviderException(client + " circuit is open"));
+        }
+
+        if (!guard.bulkhead().tryAcquire()) {
+            guard.breaker().releaseTrial();
+            sample.stop(ExternalApiMetrics.timer(meterRegistry, client, "REJECTED"));
+            return CompletableFuture.failedFuture(
+                    new RejectedExecutionException(client + " has too many concurrent requests"));
+        }
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(requestTimeout)
+                .header("Accept", "application/json")
+                .GET();
+        headers.forEach(builder::header);
+        HttpRequest request = builder.build();
+
+        return attempt(request, 1)
+                .thenApply(body -> parse(body, type))
+                .whenComplete((result, error) -> {
+                    guard.bulkhead().release();
+
+                    if (error == null) {
+                        guard.breaker().recordSuccess();
+                    } else {
+                        guard.breaker().recordFailure();
+                    }
+
+                    sample.stop(ExternalApiMetrics.timer(meterRegistry, client, error == null ? "SUCCESS" : "ERROR"));
+                });
+    }
+
+    public CircuitBreaker.State state(String client) {
+        return guardOf(client).breaker().state();
+    }
+
+    private CompletableFuture<String> attempt(HttpRequest request, int attempt) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .handle((response, error) -> {
+                    if (error == null && response.statusCode() / 100 == 2) {
+                        return CompletableFuture.completedFuture(response.body());
+                    }
+
+                    boolean retryable = error != null
+                            || response.statusCode() == 429
+                            || response.statusCode() >= 500;
+
+                    if (retryable && attempt < maxAttempts) {
+                        Executor delayed = CompletableFuture.delayedExecutor(jitter(attempt), TimeUnit.MILLISECONDS, executor);
+                        return CompletableFuture.supplyAsync(() -> request, delayed)
+                                .thenCompose(retry -> attempt(retry, attempt + 1));
+                    }
+
+                    String reason = error != null
+                            ? error.getClass().getSimpleName() + ": " + error.getMessage()
+                            : "HTTP " + response.statusCode();
+
+                    return CompletableFuture.<String>failedFuture(
+                            new PriceProviderException(request.uri().getHost() + " failed after " + attempt + " attempts: " + reason));
+                })
+                .thenCompose(future -> future);
+    }
+
+    private long jitter(int attempt) {
+        long ceiling = backoffMs * (1L << Math.min(attempt - 1, 10));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private <T> T parse(String body, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Guard guardOf(String client) {
+        return guards.computeIfAbsent(client, name -> {
+            Guard guard = new Guard(new Semaphore(maxConcurrent),
+                    new CircuitBreaker(failureThreshold, openMs, Clock.systemUTC()));
+
+            Gauge.builder("external.api.circuit.open", guard,
+                            g -> g.breaker().state() == CircuitBreaker.State.OPEN ? 1 : 0)
+                    .description("Whether the circuit breaker for an external price API is open")
+                    .tag("client", name)
+                    .register(meterRegistry);
+
+            return guard;
+        });
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.financialSystem.services;
+
+import com.example.financialSystem.utils.BenchMarkRate;
+import com.example.financialSystem.utils.PriceSeries;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class PriceSeriesStore {
+    private static final Logger log = LoggerFactory.getLogger(PriceSeriesStore.class);
+    private static final String EXTENSION = ".series";
+    private static final int RECORD_BYTES = Integer.BYTES + Double.BYTES;
+
+    private final Path directory;
+    private final Map<String, PriceSeries> series = new ConcurrentHashMap<>();
+
+    public PriceSeriesStore(@Value("${prices.store.dir:data/prices}") String directory) {
+        this.directory = Path.of(directory).toAbsolutePath();
+    }
+
+    public static String cryptoKey(String coinGeckoId, String fiatCurrency) {
+        return "crypto-" + coinGeckoId.toLowerCase(Locale.ROOT) + "-" + fiatCurrency.toLowerCase(Locale.ROOT);
+    }
+
+    public static String rateKey(BenchMarkRate rate) {
+        return "rate-" + rate.name().toLowerCase(Locale.ROOT);
+    }
+
+    @PostConstruct
+    void load() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                series.put(name.substring(0, name.length() - EXTENSION.length()), read(file));
+            }
+        } catch (IOException e) {
+            log.error("Error loading price series from {}", directory, e);
+        }
+    }
+
+    public Double closeAsOf(String key, LocalDate date) {
+        return series.getOrDefault(key, PriceSeries.empty()).closeAsOf(date);
+    }
+
+    public LocalDate lastDay(String key) {
+        return series.getOrDefault(key, PriceSeries.empty()).lastDay();
+    }
+
+    public PriceSeries get(String key) {
+        return series.getOrDefault(key, PriceSeries.empty());
+    }
+
+    public synchronized void record(String key, int[] days, double[] closes) {
+        if (days.length == 0) {
+            return;
+        }
+
+        PriceSeries current = get(key);
+        PriceSeries merged = current.merge(days, closes);
+
+        try {
+            Files.createDirectories(directory);
+
+            if (current.appendsAfterLast(days)) {
+                append(fileOf(key), merged, current.size());
+            } else {
+                rewrite(fileOf(key), merged);
+            }
+
+            series.put(key, merged);
+        } catch (IOException e) {
+            log.error("Error writing price series {}", key, e);
+        }
+    }
+
+    public void record(String key, LocalDate day, double close) {
+        record(key, new int[]{(int) day.toEpochDay()}, new double[]{close});
+    }
+
+    private Path fileOf(String key) {
+        return directory.resolve(key + EXTENSION);
+    }
+
+    private PriceSeries read(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        int count = buffer.remaining() / RECORD_BYTES;
+
+        int[] days = new int[count];
+        double[] closes = new double[count];
+
+        for (int i = 0; i < count; i++) {
+            days[i] = buffer.getInt();
+            closes[i] = buffer.getDouble();
+        }
+
+        return PriceSeries.of(days, closes);
+    }
+
+    private void append(Path file, PriceSeries merged, int from) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(encode(merged, from));
+        }
+    }
+
+    private void rewrite(Path file, PriceSeries merged) throws IOException {
+        Path temp = Files.createTempFile(directory, "series", ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.write(encode(merged, 0));
+        }
+
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private ByteBuffer encode(PriceSeries merged, int from) {
+        ByteBuffer buffer = ByteBuffer.allocate((merged.size() - from) * RECORD_BYTES);
+
+        for (int i = from; i < merged.size(); i++) {
+            buffer.putInt(merged.dayAt(i));
+            buffer.putDouble(merged.closeAt(i));
+        }
+
+        return buffer.flip();
+    }
+}
@@ -1,62 +1,137 @@
 package com.example.financialSystem.services;
 
+import com.example.financialSystem.exceptions.InvalidRefreshTokenException;
 import com.example.financialSystem.models.dto.responses.RefreshTokenResponse;
 import com.example.financialSystem.models.entity.RefreshToken;
 import com.example.financialSystem.models.entity.User;
-import com.example.financialSystem.models.mapper.RefreshTokenMapper;
 import com.example.financialSystem.repositories.RefreshTokenRepository;
-import com.example.financialSystem.repositories.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.time.Instant;
-import java.util.Optional;
+import java.util.Base64;
 import java.util.UUID;
 
 @Service
 public class RefreshTokenService {
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+    private static final int TOKEN_BYTES = 32;
+
     @Value("${app.jwtRefreshExpirationMs}")
     private Long jwtRefreshExpirationMs;
 
-    private final RefreshTokenMapper refreshTokenMapper;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final UserRepository userRepository;
+    private final TokenService tokenService;
+    private final EntityManager entityManager;
+    private final SecureRandom secureRandom = new SecureRandom();
 
-    public RefreshTokenService(RefreshTokenMapper refreshTokenMapper, RefreshTokenRepository tokenRepo, UserRepository userRepo) {
-        this.refreshTokenMapper = refreshTokenMapper;
+    public RefreshTokenService(RefreshTokenRepository tokenRepo, TokenService tokenService, EntityManager entityManager) {
         this.refreshTokenRepository = tokenRepo;
-        this.userRepository = userRepo;
+        this.tokenService = tokenService;
+        this.entityManager = entityManager;
     }
 
+    @Transactional
     public RefreshTokenResponse createRefreshToken(UUID userId) {
-        refreshTokenRepository.deleteByUserId(userId);
+        String token = issue(entityManager.getReference(User.class, userId), UUID.randomUUID());
+        return new RefreshTokenResponse(token, "Bearer", null);
+    }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public RefreshTokenResponse rotate(String presentedToken) {
+        String tokenHash = hash(presentedToken);
 
-        RefreshToken refreshToken = new RefreshToken();
-        refreshToken.setUser(user);
-        refreshToken.setToken(UUID.randomUUID().toString());
-        refreshToken.setExpiryDate(Instant.now().plusMillis(jwtRefreshExpirationMs));
+        RefreshToken current = refreshTokenRepository.findByTokenHash(tokenHash)
+                .orElseThrow(() -> new InvalidRefreshTokenException("Refresh token is not valid"));
 
-        RefreshToken saved = refreshTokenRepository.save(refreshToken);
-        return refreshTokenMapper.toRefreshToken(saved);
-    }
+        if (current.isRevoked()) {
+            throw new InvalidRefreshTokenException("Refresh token was revoked. Please make a new signin request");
+        }
+
+        if (current.getUsedAt() != null) {
+            revokeFamily(current, "reused");
+        }
 
-    public void verifyExpiration(RefreshToken token) {
-        if (isTokenExpired(token)) {
-            refreshTokenRepository.delete(token);
-            throw new RuntimeException("Refresh token was expired. Please make a new signin request");
+        if (isTokenExpired(current)) {
+            throw new InvalidRefreshTokenException("Refresh token was expired. Please make a new signin request");
         }
+
+        User user = current.getUser();
+        if (Boolean.TRUE.equals(user.getDeleted())) {
+            revokeFamily(current, "presented for an inactive user");
+        }
+
+        if (refreshTokenRepository.markUsed(tokenHash, Instant.now()) == 0) {
+            revokeFamily(current, "rotated concurrently");
+        }
+
+        String nextToken = issue(user, current.getFamilyId());
+
+        return new RefreshTokenResponse(nextToken, "Bearer", tokenService.generateToken(user.getLogin()));
     }
 
-    public Optional<RefreshToken> findByToken(String token) {
-        return refreshTokenRepository.findByToken(token);
+    @Transactional
+    public int revokeAllForUser(UUID userId) {
+        return refreshTokenRepository.revokeByUserId(userId);
+    }
+
+    @Scheduled(cron = "${refresh-token.sweep.cron:0 15 * * * *}")
+    @Transactional
+    public int sweepExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(Instant.now());
+
+        if (deleted > 0) {
+            log.info("Swept {} expired refresh tokens", deleted);
+        }
+
+        return deleted;
     }
 
     public boolean isTokenExpired(RefreshToken token) {
         return token.getExpiryDate().isBefore(Instant.now());
     }
 
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private String issue(User user, UUID familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
 
+        Instant now = Instant.now();
+
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setTokenHash(hash(token));
+        refreshToken.setFamilyId(familyId);
+        refreshToken.setUser(user);
+        refreshToken.setCreatedAt(now);
+        refreshToken.setExpiryDate(now.plusMillis(jwtRefreshExpirationMs));
+
+        entityManager.persist(refreshToken);
+
+        return token;
+    }
+
+    private void revokeFamily(RefreshToken token, String reason) {
+        int revoked = refreshTokenRepository.revokeFamily(token.getFamilyId());
+        log.warn("Refresh token family {} revoked ({} tokens): token {}", token.getFamilyId(), revoked, reason);
+
+        throw new InvalidRefreshTokenException("Refresh token is no longer valid. Please make a new signin request");
+    }
 }
@@ -1,9 +1,11 @@
 package com.example.financialSystem.services;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.example.financialSystem.models.entity.Login;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -11,44 +13,97 @@ import org.springframework.stereotype.Service;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 public class TokenService {
-    @Value("${api.security.token.secret}")
-    private String tokenSecret;
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
 
     private static final String ISSUER = "auth-api";
     private static final int EXPIRATION_TIME = 15;
     private static final ZoneOffset TIMEZONE_OFFSET = ZoneOffset.of("-03:00");
 
+    private final KeyRing keyRing;
+
+    private record SigningKey(String keyId, Algorithm algorithm, JWTVerifier verifier) {
+        static SigningKey of(String keyId, String secret) {
+            Algorithm algorithm = Algorithm.HMAC256(secret);
+            return new SigningKey(keyId, algorithm, JWT.require(algorithm).withIssuer(ISSUER).build());
+        }
+    }
+
+    private record KeyRing(SigningKey current, Map<String, SigningKey> byKeyId) {
+        static KeyRing of(SigningKey current, List<SigningKey> previous) {
+            Map<String, SigningKey> byKeyId = new LinkedHashMap<>();
+            byKeyId.put(current.keyId(), current);
+            previous.forEach(key -> byKeyId.putIfAbsent(key.keyId(), key));
+            return new KeyRing(current, Map.copyOf(byKeyId));
+        }
+    }
+
+    public TokenService(@Value("${api.security.token.secret}") String tokenSecret,
+                        @Value("${api.security.token.key-id:primary}") String keyId,
+                        @Value("${api.security.token.previous-keys:}") List<String> previousKeys) {
+        List<SigningKey> previous = new ArrayList<>();
+
+        for (String entry : previousKeys) {
+            String[] parts = entry.trim().split(":", 2);
+            if (parts.length == 2 && !parts[0].isBlank() && !parts[1].isBlank()) {
+                previous.add(SigningKey.of(parts[0], parts[1]));
+            }
+        }
+
+        this.keyRing = KeyRing.of(SigningKey.of(keyId, tokenSecret), previous);
+    }
+
     public String generateToken(Login user) {
+        SigningKey signingKey = keyRing.current();
+
         try {
             return JWT.create()
+                    .withKeyId(signingKey.keyId())
                     .withIssuer(ISSUER)
                     .withSubject(user.getUsername())
+                    .withClaim(USER_ID_CLAIM, user.getUser().getId().toString())
+                    .withClaim(ROLE_CLAIM, user.getUser().getUserRole().name())
+                    .withIssuedAt(Instant.now())
                     .withExpiresAt(getExpirationInstant())
-                    .sign(getSigningAlgorithm());
+                    .sign(signingKey.algorithm());
         } catch (JWTCreationException ex) {
             throw new RuntimeException("Could not generate token", ex);
         }
     }
 
     public String validateToken(String token) {
+        DecodedJWT decoded = verifyToken(token);
+        return decoded != null ? decoded.getSubject() : null;
+    }
+
+    public DecodedJWT verifyToken(String token) {
         try {
-            return JWT.require(getSigningAlgorithm())
-                    .withIssuer(ISSUER)
-                    .build()
-                    .verify(token)
-                    .getSubject();
+            DecodedJWT unverified = JWT.decode(token);
+
+            if (unverified.getKeyId() != null) {
+                SigningKey key = keyRing.byKeyId().get(unverified.getKeyId());
+                return key != null ? key.verifier().verify(unverified) : null;
+            }
+
+            for (SigningKey key : keyRing.byKeyId().values()) {
+                try {
+                    return key.verifier().verify(unverified);
+                } catch (JWTVerificationException ignored) {
+                }
+            }
+            return null;
         } catch (JWTVerificationException ex) {
             return null;
         }
     }
 
-    private Algorithm getSigningAlgorithm() {
-        return Algorithm.HMAC256(tokenSecret);
-    }
-
     private Instant getExpirationInstant() {
         return LocalDateTime.now()
                 .plusHours(EXPIRATION_TIME)
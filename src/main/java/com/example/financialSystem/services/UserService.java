@@ -1,10 +1,14 @@
 package com.example.financialSystem.services;
 
+import com.example.financialSystem.configs.security.PrincipalCache;
 import com.example.financialSystem.exceptions.UserInactiveException;
 import com.example.financialSystem.exceptions.duplicates.UserDuplicateException;
 import com.example.financialSystem.exceptions.notFound.UserNotFoundException;
+import com.example.financialSystem.models.dto.projections.UserFinancialRow;
+import com.example.financialSystem.models.dto.projections.UserSummary;
 import com.example.financialSystem.models.dto.requests.UserPatchRequest;
 import com.example.financialSystem.models.dto.requests.UserRequest;
+import com.example.financialSystem.models.dto.responses.FinancialResponse;
 import com.example.financialSystem.models.dto.responses.UserFinancialResponse;
 import com.example.financialSystem.models.dto.responses.UserResponse;
 import com.example.financialSystem.models.entity.Login;
@@ -13,6 +17,7 @@ import com.example.financialSystem.models.enums.UserRole;
 import com.example.financialSystem.models.mapper.UserMapper;
 import com.example.financialSystem.repositories.LoginRepository;
 import com.example.financialSystem.repositories.UserRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -22,23 +27,34 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 public class UserService extends UserLoggedService implements UserDetailsService {
+    private static final int MAX_FINANCIAL_PAGE_SIZE = 500;
+
     private final LoginRepository loginRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final PrincipalCache principalCache;
+    private final RefreshTokenService refreshTokenService;
 
     public UserService(LoginRepository loginRepository, PasswordEncoder passwordEncoder,
-                       UserRepository userRepository, UserMapper userMapper) {
+                       UserRepository userRepository, UserMapper userMapper, PrincipalCache principalCache,
+                       RefreshTokenService refreshTokenService) {
         super(loginRepository);
         this.loginRepository = loginRepository;
         this.passwordEncoder = passwordEncoder;
         this.userRepository = userRepository;
         this.userMapper = userMapper;
+        this.principalCache = principalCache;
+        this.refreshTokenService = refreshTokenService;
     }
 
     @Override
@@ -111,6 +127,7 @@ public class UserService extends UserLoggedService implements UserDetailsService
         ensureChanged(user, request);
 
         userMapper.updateEntityFromUpdate(request, user);
+        principalCache.evictUser(id);
 
         return userMapper.toResponse(userRepository.save(user));
     }
@@ -123,6 +140,7 @@ public class UserService extends UserLoggedService implements UserDetailsService
         validateOwnerShip(existingUser);
 
         userMapper.updateEntityFromPatch(patchRequest, existingUser);
+        principalCache.evictUser(id);
 
         return userMapper.toResponse(userRepository.save(existingUser));
     }
@@ -144,8 +162,28 @@ public class UserService extends UserLoggedService implements UserDetailsService
 
     @PreAuthorize("hasRole('ADMIN')")
     @Transactional(readOnly = true)
-    public List<UserFinancialResponse> listAllUserFinancial() {
-        return userMapper.toFinancialResponseList(userRepository.findAllWithFinancials());
+    public List<UserFinancialResponse> listAllUserFinancial(int page, int size) {
+        List<UserSummary> users = userRepository.findActiveSummaries(
+                PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_FINANCIAL_PAGE_SIZE)));
+
+        if (users.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, List<FinancialResponse>> financialsByUser = new HashMap<>();
+
+        try (Stream<UserFinancialRow> rows = userRepository.streamFinancialRows(
+                users.stream().map(UserSummary::id).toList())) {
+            rows.forEach(row -> financialsByUser
+                    .computeIfAbsent(row.userId(), userId -> new ArrayList<>())
+                    .add(new FinancialResponse(row.id(), row.value(), row.dateFinancial(),
+                            row.financialType(), row.deleted())));
+        }
+
+        return users.stream()
+                .map(user -> new UserFinancialResponse(user.id(), user.name(),
+                        financialsByUser.getOrDefault(user.id(), List.of())))
+                .toList();
     }
 
     @PreAuthorize("hasRole('ADMIN')")
@@ -159,6 +197,8 @@ public class UserService extends UserLoggedService implements UserDetailsService
 
         user.setDeleted(Boolean.TRUE);
         userRepository.save(user);
+        refreshTokenService.revokeAllForUser(id);
+        principalCache.evictUser(id);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
@@ -172,6 +212,7 @@ public class UserService extends UserLoggedService implements UserDetailsService
 
         user.setDeleted(Boolean.FALSE);
         userRepository.save(user);
+        principalCache.evictUser(id);
     }
 
     private void validateOwnerShip(User user) {
@@ -0,0 +1,58 @@
+package com.example.financialSystem.utils;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CircuitBreaker {
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final Clock clock;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+    private volatile long openedAt = -1;
+
+    public CircuitBreaker(int failureThreshold, long openMillis, Clock clock) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMillis = openMillis;
+        this.clock = clock;
+    }
+
+    public State state() {
+        if (openedAt < 0) {
+            return State.CLOSED;
+        }
+
+        return clock.millis() - openedAt >= openMillis ? State.HALF_OPEN : State.OPEN;
+    }
+
+    public boolean tryAcquire() {
+        return switch (state()) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> trialInFlight.compareAndSet(false, true);
+        };
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        openedAt = -1;
+        trialInFlight.set(false);
+    }
+
+    public void releaseTrial() {
+        trialInFlight.set(false);
+    }
+
+    public void recordFailure() {
+        if (state() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt = clock.millis();
+        }
+        trialInFlight.set(false);
+    }
+}
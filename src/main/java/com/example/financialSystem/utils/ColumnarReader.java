@@ -0,0 +1,122 @@
+package com.example.financialSystem.utils;
+
+import com.example.financialSystem.utils.ColumnarWriter.Column;
+import com.example.financialSystem.utils.ColumnarWriter.ColumnType;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public class ColumnarReader {
+    private final DataInputStream in;
+    private final List<Column> columns;
+
+    public ColumnarReader(InputStream source) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(source, 64 * 1024));
+
+        if (in.readInt() != ColumnarWriter.MAGIC) {
+            throw new IOException("Not a columnar export");
+        }
+
+        int count = in.readUnsignedShort();
+        List<Column> schema = new ArrayList<>(count);
+        for (int c = 0; c < count; c++) {
+            String name = in.readUTF();
+            schema.add(new Column(name, ColumnType.values()[in.readUnsignedByte()]));
+        }
+        this.columns = List.copyOf(schema);
+    }
+
+    public List<Column> columns() {
+        return columns;
+    }
+
+    public long forEach(Consumer<Object[]> consumer) throws IOException {
+        long rows = 0;
+        int groupRows;
+
+        while ((groupRows = in.readInt()) > 0) {
+            Object[][] group = new Object[groupRows][columns.size()];
+
+            for (int c = 0; c < columns.size(); c++) {
+                readColumn(c, group);
+            }
+
+            for (Object[] row : group) {
+                consumer.accept(row);
+            }
+            rows += groupRows;
+        }
+
+        return rows;
+    }
+
+    private void readColumn(int c, Object[][] group) throws IOException {
+        int groupRows = group.length;
+        byte[] nulls = in.readNBytes((groupRows + 7) / 8);
+        ColumnType type = columns.get(c).type();
+
+        if (type == ColumnType.BOOLEAN) {
+            byte[] bits = in.readNBytes((groupRows + 7) / 8);
+            for (int r = 0; r < groupRows; r++) {
+                if (!isSet(nulls, r)) {
+                    group[r][c] = isSet(bits, r);
+                }
+            }
+            return;
+        }
+
+        if (type == ColumnType.STRING) {
+            int size = in.readInt();
+            String[] dictionary = new String[size];
+            for (int i = 0; i < size; i++) {
+                dictionary[i] = in.readUTF();
+            }
+
+            for (int r = 0; r < groupRows; r++) {
+                if (!isSet(nulls, r)) {
+                    group[r][c] = dictionary[size <= 256 ? in.readUnsignedByte() : in.readInt()];
+                }
+            }
+            return;
+        }
+
+        for (int r = 0; r < groupRows; r++) {
+            if (!isSet(nulls, r)) {
+                group[r][c] = readValue(type);
+            }
+        }
+    }
+
+    private Object readValue(ColumnType type) throws IOException {
+        return switch (type) {
+            case UUID -> new UUID(in.readLong(), in.readLong());
+            case DATE -> LocalDate.ofEpochDay(in.readInt());
+            case DECIMAL -> {
+                int scale = in.readByte();
+                yield new BigDecimal(BigInteger.valueOf(in.readLong()), scale);
+            }
+            case INT -> in.readInt();
+            case TIMESTAMP -> {
+                long micros = in.readLong();
+                yield LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                        (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+            }
+            default -> throw new IllegalStateException("Unexpected column type " + type);
+        };
+    }
+
+    private static boolean isSet(byte[] bitmap, int index) {
+        return (bitmap[index >> 3] & (1 << (index & 7))) != 0;
+    }
+}
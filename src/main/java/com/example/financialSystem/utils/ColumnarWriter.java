@@ -0,0 +1,174 @@
+package com.example.financialSystem.utils;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class ColumnarWriter implements AutoCloseable {
+    static final int MAGIC = 0x46534331;
+
+    public enum ColumnType {
+        UUID, STRING, DATE, DECIMAL, BOOLEAN, INT, TIMESTAMP
+    }
+
+    public record Column(String name, ColumnType type) {
+    }
+
+    private final DataOutputStream out;
+    private final List<Column> columns;
+    private final int rowGroupSize;
+    private final Object[][] buffer;
+    private int buffered;
+    private long rows;
+
+    public ColumnarWriter(OutputStream target, List<Column> columns, int rowGroupSize) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(target, 64 * 1024));
+        this.columns = List.copyOf(columns);
+        this.rowGroupSize = Math.max(1, rowGroupSize);
+        this.buffer = new Object[this.columns.size()][this.rowGroupSize];
+
+        out.writeInt(MAGIC);
+        out.writeShort(this.columns.size());
+        for (Column column : this.columns) {
+            out.writeUTF(column.name());
+            out.writeByte(column.type().ordinal());
+        }
+    }
+
+    public void write(Object[] row) throws IOException {
+        for (int c = 0; c < columns.size(); c++) {
+            buffer[c][buffered] = row[c];
+        }
+
+        buffered++;
+        rows++;
+
+        if (buffered == rowGroupSize) {
+            flushGroup();
+        }
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        flushGroup();
+        out.writeInt(0);
+        out.flush();
+    }
+
+    private void flushGroup() throws IOException {
+        if (buffered == 0) {
+            return;
+        }
+
+        out.writeInt(buffered);
+
+        for (int c = 0; c < columns.size(); c++) {
+            Object[] values = buffer[c];
+            writeNulls(values);
+
+            switch (columns.get(c).type()) {
+                case STRING -> writeStrings(values);
+                case BOOLEAN -> writeBooleans(values);
+                default -> {
+                    for (int r = 0; r < buffered; r++) {
+                        if (values[r] != null) {
+                            writeValue(columns.get(c).type(), values[r]);
+                        }
+                    }
+                }
+            }
+
+            Arrays.fill(values, 0, buffered, null);
+        }
+
+        buffered = 0;
+    }
+
+    private void writeNulls(Object[] values) throws IOException {
+        byte[] bitmap = new byte[(buffered + 7) / 8];
+        for (int r = 0; r < buffered; r++) {
+            if (values[r] == null) {
+                bitmap[r >> 3] |= (byte) (1 << (r & 7));
+            }
+        }
+        out.write(bitmap);
+    }
+
+    private void writeBooleans(Object[] values) throws IOException {
+        byte[] bitmap = new byte[(buffered + 7) / 8];
+        for (int r = 0; r < buffered; r++) {
+            if (Boolean.TRUE.equals(values[r])) {
+                bitmap[r >> 3] |= (byte) (1 << (r & 7));
+            }
+        }
+        out.write(bitmap);
+    }
+
+    private void writeStrings(Object[] values) throws IOException {
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> entries = new ArrayList<>();
+        int[] codes = new int[buffered];
+
+        for (int r = 0; r < buffered; r++) {
+            if (values[r] != null) {
+                codes[r] = dictionary.computeIfAbsent(values[r].toString(), value -> {
+                    entries.add(value);
+                    return entries.size() - 1;
+                });
+            }
+        }
+
+        out.writeInt(entries.size());
+        for (String entry : entries) {
+            out.writeUTF(entry);
+        }
+
+        boolean narrow = entries.size() <= 256;
+        for (int r = 0; r < buffered; r++) {
+            if (values[r] != null) {
+                if (narrow) {
+                    out.writeByte(codes[r]);
+                } else {
+                    out.writeInt(codes[r]);
+                }
+            }
+        }
+    }
+
+    private void writeValue(ColumnType type, Object value) throws IOException {
+        switch (type) {
+            case UUID -> {
+                UUID uuid = (UUID) value;
+                out.writeLong(uuid.getMostSignificantBits());
+                out.writeLong(uuid.getLeastSignificantBits());
+            }
+            case DATE -> out.writeInt((int) ((LocalDate) value).toEpochDay());
+            case DECIMAL -> {
+                BigDecimal decimal = (BigDecimal) value;
+                out.writeByte(decimal.scale());
+                out.writeLong(decimal.unscaledValue().longValueExact());
+            }
+            case INT -> out.writeInt(((Number) value).intValue());
+            case TIMESTAMP -> {
+                LocalDateTime timestamp = (LocalDateTime) value;
+                out.writeLong(timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + timestamp.getNano() / 1_000);
+            }
+            default -> throw new IllegalStateException("Unexpected column type " + type);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.financialSystem.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public final class CompoundingGrid {
+    private static final double DAYS_PER_YEAR = 365.0;
+
+    private CompoundingGrid() {
+    }
+
+    public static double[] project(double[] principals, double[] annualRates, int[] horizons) {
+        int positions = principals.length;
+        int width = horizons.length;
+
+        Map<Double, Integer> rateIndex = new HashMap<>();
+        int[] positionRate = new int[positions];
+        for (int i = 0; i < positions; i++) {
+            positionRate[i] = rateIndex.computeIfAbsent(annualRates[i], rate -> rateIndex.size());
+        }
+
+        double[] factors = new double[rateIndex.size() * width];
+        rateIndex.forEach((rate, index) -> {
+            double dailyLogGrowth = Math.log1p(rate) / DAYS_PER_YEAR;
+            int offset = index * width;
+            for (int h = 0; h < width; h++) {
+                factors[offset + h] = Math.exp(dailyLogGrowth * horizons[h]);
+            }
+        });
+
+        double[] grid = new double[positions * width];
+        for (int i = 0; i < positions; i++) {
+            double principal = principals[i];
+            int row = i * width;
+            int factorRow = positionRate[i] * width;
+            for (int h = 0; h < width; h++) {
+                grid[row + h] = principal * factors[factorRow + h];
+            }
+        }
+
+        return grid;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.financialSystem.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public final class CsvParser {
+
+    private CsvParser() {
+    }
+
+    public static List<Map<String, String>> parse(Reader source) throws IOException {
+        BufferedReader reader = new BufferedReader(source);
+        List<Map<String, String>> rows = new ArrayList<>();
+
+        List<String> header = readRecord(reader);
+        if (header == null) {
+            return rows;
+        }
+        header = header.stream().map(column -> column.trim().toLowerCase(Locale.ROOT)).toList();
+
+        List<String> record;
+        while ((record = readRecord(reader)) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+
+            Map<String, String> row = new LinkedHashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                row.put(header.get(i), i < record.size() ? record.get(i).trim() : null);
+            }
+            rows.add(row);
+        }
+
+        return rows;
+    }
+
+    private static List<String> readRecord(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+
+            if (!quoted) {
+                break;
+            }
+
+            line = reader.readLine();
+            if (line == null) {
+                break;
+            }
+            field.append('\n');
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+}
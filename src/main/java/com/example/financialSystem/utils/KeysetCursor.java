@@ -0,0 +1,61 @@
+package com.example.financialSystem.utils;
+
+import com.example.financialSystem.exceptions.InvalidCursorException;
+import com.example.financialSystem.models.dto.responses.CursorPageResponse;
+import com.example.financialSystem.models.entity.Financial;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+public final class KeysetCursor {
+    public static final Sort SORT = Sort.by("dateFinancial", "id");
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private KeysetCursor() {
+    }
+
+    public static ScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+
+            return ScrollPosition.forward(Map.of(
+                    "dateFinancial", LocalDate.parse(parts[0]),
+                    "id", UUID.fromString(parts[1])
+            ));
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public static Limit limit(int size) {
+        return Limit.of(Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+    }
+
+    public static <E extends Financial, R> CursorPageResponse<R> toPage(Window<E> window,
+                                                                       Function<List<E>, List<R>> mapper) {
+        String nextCursor = null;
+
+        if (window.hasNext() && !window.isEmpty()) {
+            E last = window.getContent().get(window.size() - 1);
+            nextCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    (last.getDateFinancial() + "|" + last.getId()).getBytes(StandardCharsets.UTF_8));
+        }
+
+        return new CursorPageResponse<>(mapper.apply(window.getContent()), nextCursor, window.hasNext());
+    }
+}
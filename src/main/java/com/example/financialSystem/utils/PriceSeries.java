@@ -0,0 +1,108 @@
+package com.example.financialSystem.utils;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+public final class PriceSeries {
+    private static final PriceSeries EMPTY = new PriceSeries(new int[0], new double[0]);
+
+    private final int[] days;
+    private final double[] closes;
+
+    private PriceSeries(int[] days, double[] closes) {
+        this.days = days;
+        this.closes = closes;
+    }
+
+    public static PriceSeries empty() {
+        return EMPTY;
+    }
+
+    public static PriceSeries of(int[] days, double[] closes) {
+        return EMPTY.merge(days, closes);
+    }
+
+    public int size() {
+        return days.length;
+    }
+
+    public int dayAt(int index) {
+        return days[index];
+    }
+
+    public double closeAt(int index) {
+        return closes[index];
+    }
+
+    public LocalDate lastDay() {
+        return days.length == 0 ? null : LocalDate.ofEpochDay(days[days.length - 1]);
+    }
+
+    public Double closeAsOf(LocalDate date) {
+        int index = Arrays.binarySearch(days, (int) date.toEpochDay());
+
+        if (index < 0) {
+            index = -index - 2;
+        }
+
+        return index < 0 ? null : closes[index];
+    }
+
+    public boolean appendsAfterLast(int[] newDays) {
+        int last = days.length == 0 ? Integer.MIN_VALUE : days[days.length - 1];
+
+        for (int day : newDays) {
+            if (day <= last) {
+                return false;
+            }
+            last = day;
+        }
+
+        return true;
+    }
+
+    public PriceSeries merge(int[] newDays, double[] newCloses) {
+        int[] mergedDays = new int[days.length + newDays.length];
+        double[] mergedCloses = new double[mergedDays.length];
+
+        Integer[] order = new Integer[newDays.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(newDays[a], newDays[b]));
+
+        int i = 0;
+        int j = 0;
+        int size = 0;
+
+        while (i < days.length || j < order.length) {
+            boolean takeNew = i == days.length
+                    || (j < order.length && newDays[order[j]] <= days[i]);
+
+            int day;
+            double close;
+            if (takeNew) {
+                day = newDays[order[j]];
+                close = newCloses[order[j]];
+                j++;
+                if (i < days.length && days[i] == day) {
+                    i++;
+                }
+            } else {
+                day = days[i];
+                close = closes[i];
+                i++;
+            }
+
+            if (size > 0 && mergedDays[size - 1] == day) {
+                mergedCloses[size - 1] = close;
+            } else {
+                mergedDays[size] = day;
+                mergedCloses[size] = close;
+                size++;
+            }
+        }
+
+        return new PriceSeries(Arrays.copyOf(mergedDays, size), Arrays.copyOf(mergedCloses, size));
+    }
+}
@@ -0,0 +1,93 @@
+CREATE TABLE users (
+    id          UUID         NOT NULL,
+    name        VARCHAR(255) NOT NULL,
+    email       VARCHAR(255) NOT NULL,
+    user_role   VARCHAR(255),
+    birth_day   DATE,
+    deleted     BOOLEAN      NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_users PRIMARY KEY (id)
+);
+
+CREATE TABLE login (
+    id          UUID         NOT NULL,
+    user_id     UUID,
+    username    VARCHAR(255) NOT NULL,
+    password    VARCHAR(255) NOT NULL,
+    deleted     BOOLEAN      NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_login PRIMARY KEY (id),
+    CONSTRAINT uk_login_username UNIQUE (username),
+    CONSTRAINT uk_login_user UNIQUE (user_id),
+    CONSTRAINT fk_login_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE financial (
+    id              UUID          NOT NULL,
+    user_id         UUID          NOT NULL,
+    value           NUMERIC(38, 2),
+    base_currency   VARCHAR(255),
+    date_financial  DATE          NOT NULL,
+    financial_type  VARCHAR(255),
+    description     VARCHAR(255)  NOT NULL,
+    deleted         BOOLEAN       NOT NULL,
+    created_at      TIMESTAMP(6)  NOT NULL,
+    updated_at      TIMESTAMP(6)  NOT NULL,
+    CONSTRAINT pk_financial PRIMARY KEY (id),
+    CONSTRAINT fk_financial_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE cost (
+    id         UUID NOT NULL,
+    cost_type  VARCHAR(255),
+    CONSTRAINT pk_cost PRIMARY KEY (id),
+    CONSTRAINT fk_cost_financial FOREIGN KEY (id) REFERENCES financial (id)
+);
+
+CREATE TABLE expense (
+    id              UUID    NOT NULL,
+    expense_type    VARCHAR(255),
+    payment_method  VARCHAR(255),
+    is_fixed        BOOLEAN NOT NULL,
+    CONSTRAINT pk_expense PRIMARY KEY (id),
+    CONSTRAINT fk_expense_financial FOREIGN KEY (id) REFERENCES financial (id)
+);
+
+CREATE TABLE investment (
+    id               UUID    NOT NULL,
+    investment_type  VARCHAR(255),
+    action_quantity  INTEGER NOT NULL,
+    broker_name      VARCHAR(255),
+    CONSTRAINT pk_investment PRIMARY KEY (id),
+    CONSTRAINT fk_investment_financial FOREIGN KEY (id) REFERENCES financial (id)
+);
+
+CREATE TABLE balance_rollup (
+    id              UUID           NOT NULL,
+    user_id         UUID           NOT NULL,
+    period_start    DATE           NOT NULL,
+    financial_type  VARCHAR(255)   NOT NULL,
+    currency        VARCHAR(255)   NOT NULL,
+    total           NUMERIC(38, 2) NOT NULL,
+    entry_count     BIGINT         NOT NULL,
+    updated_at      TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_balance_rollup PRIMARY KEY (id),
+    CONSTRAINT uk_balance_rollup_key UNIQUE (user_id, period_start, financial_type, currency)
+);
+
+CREATE TABLE refresh_tokens (
+    token_hash   VARCHAR(43)                 NOT NULL,
+    family_id    UUID                        NOT NULL,
+    user_id      UUID                        NOT NULL,
+    expiry_date  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    created_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    used_at      TIMESTAMP(6) WITH TIME ZONE,
+    revoked      BOOLEAN                     NOT NULL,
+    CONSTRAINT pk_refresh_tokens PRIMARY KEY (token_hash),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE INDEX idx_refresh_tokens_family ON refresh_tokens (family_id);
+CREATE INDEX idx_refresh_tokens_expiry ON refresh_tokens (expiry_date);
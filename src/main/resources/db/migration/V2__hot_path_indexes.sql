@@ -0,0 +1,18 @@
+-- findByUserAndDeletedFalse, streamByUser, sumMonthlyByType and the per-user keyset windows
+CREATE INDEX idx_financial_user_date_active ON financial (user_id, date_financial, id) WHERE deleted = false;
+
+-- findAllActive, streamAllActive and the admin keyset windows
+CREATE INDEX idx_financial_date_active ON financial (date_financial, id) WHERE deleted = false;
+
+-- Duplicate checks (existsByUserAndCostTypeAndDateFinancial, findByUserAndExpenseTypeAndDateFinancialAndValueAndPaymentMethod,
+-- findDuplicateKeys) do not filter on deleted, so they need a full index; it also backs the user_id foreign key
+CREATE INDEX idx_financial_user_date_value ON financial (user_id, date_financial, value);
+
+-- findByUserAndInvestmentTypeAndBrokerName: user_id is narrowed on financial, broker and type on the subtable
+CREATE INDEX idx_investment_broker_type ON investment (broker_name, investment_type);
+
+-- findActiveSummaries
+CREATE INDEX idx_users_active_name ON users (name, id) WHERE deleted = false;
+
+-- revokeByUserId
+CREATE INDEX idx_refresh_tokens_user_active ON refresh_tokens (user_id) WHERE revoked = false;
@@ -0,0 +1,18 @@
+CREATE SEQUENCE financial_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE financial_outbox (
+    id              BIGINT                      NOT NULL,
+    feed_offset     BIGINT,
+    aggregate_id    UUID                        NOT NULL,
+    user_id         UUID                        NOT NULL,
+    financial_type  VARCHAR(255)                NOT NULL,
+    change_type     VARCHAR(255)                NOT NULL,
+    payload         VARCHAR(4000)               NOT NULL,
+    occurred_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    published_at    TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT pk_financial_outbox PRIMARY KEY (id),
+    CONSTRAINT uk_financial_outbox_offset UNIQUE (feed_offset)
+);
+
+-- findByFeedOffsetIsNullOrderByIdAsc: the relay only scans events that have not been published yet
+CREATE INDEX idx_financial_outbox_pending ON financial_outbox (id) WHERE feed_offset IS NULL;
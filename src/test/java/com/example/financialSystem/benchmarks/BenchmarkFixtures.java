@@ -0,0 +1,145 @@
+package com.example.financialSystem.benchmarks;
+
+import com.example.financialSystem.models.entity.Cost;
+import com.example.financialSystem.models.entity.Expense;
+import com.example.financialSystem.models.entity.Investment;
+import com.example.financialSystem.models.entity.Login;
+import com.example.financialSystem.models.entity.User;
+import com.example.financialSystem.models.enums.CostType;
+import com.example.financialSystem.models.enums.ExpenseType;
+import com.example.financialSystem.models.enums.InvestmentType;
+import com.example.financialSystem.models.enums.UserRole;
+import com.example.financialSystem.services.CurrencyService;
+import com.example.financialSystem.services.PriceSeriesStore;
+import com.example.financialSystem.utils.BenchMarkRate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+public final class BenchmarkFixtures {
+    private static final InvestmentType[] INVESTMENT_TYPES = InvestmentType.values();
+    private static final BenchMarkRate[] CURRENCIES = BenchMarkRate.values();
+
+    private BenchmarkFixtures() {
+    }
+
+    public static Login login(UserRole role) {
+        User user = new User("Benchmark", "benchmark@gmail.com", LocalDate.of(1990, 1, 1));
+        user.setId(UUID.randomUUID());
+        user.setUserRole(role);
+        user.setDeleted(Boolean.FALSE);
+
+        Login login = new Login();
+        login.setId(UUID.randomUUID());
+        login.setUser(user);
+        login.setUsername(user.getEmail());
+        user.setLogin(login);
+        return login;
+    }
+
+    public static List<Investment> investments(int size, User user) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Investment> investments = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            Investment investment = Investment.builder()
+                    .investmentType(INVESTMENT_TYPES[random.nextInt(INVESTMENT_TYPES.length)])
+                    .actionQuantity(1 + random.nextInt(100))
+                    .brokerName("Broker " + i)
+                    .value(BigDecimal.valueOf(100 + random.nextInt(10_000)))
+                    .baseCurrency(CURRENCIES[random.nextInt(CURRENCIES.length)])
+                    .dateFinancial(LocalDate.now().minusDays(random.nextInt(3650)))
+                    .description("Investment " + i)
+                    .user(user)
+                    .build();
+            investment.setId(UUID.randomUUID());
+            investment.setDeleted(Boolean.FALSE);
+            investments.add(investment);
+        }
+
+        return investments;
+    }
+
+    public static List<Expense> expenses(int size, User user) {
+        SplittableRandom random = new SplittableRandom(42);
+        ExpenseType[] types = ExpenseType.values();
+        List<Expense> expenses = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            Expense expense = Expense.builder()
+                    .expenseType(types[random.nextInt(types.length)])
+                    .paymentMethod("CARD")
+                    .value(BigDecimal.valueOf(1 + random.nextInt(1_000)))
+                    .baseCurrency(CURRENCIES[random.nextInt(CURRENCIES.length)])
+                    .dateFinancial(LocalDate.now().minusDays(random.nextInt(365)))
+                    .description("Expense " + i)
+                    .user(user)
+                    .build();
+            expense.setId(UUID.randomUUID());
+            expense.setDeleted(Boolean.FALSE);
+            expenses.add(expense);
+        }
+
+        return expenses;
+    }
+
+    public static List<Cost> costs(int size, User user) {
+        SplittableRandom random = new SplittableRandom(42);
+        CostType[] types = CostType.values();
+        List<Cost> costs = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            Cost cost = Cost.builder()
+                    .costType(types[random.nextInt(types.length)])
+                    .value(BigDecimal.valueOf(1 + random.nextInt(1_000)))
+                    .baseCurrency(CURRENCIES[random.nextInt(CURRENCIES.length)])
+                    .dateFinancial(LocalDate.now().minusDays(random.nextInt(365)))
+                    .description("Cost " + i)
+                    .user(user)
+                    .build();
+            cost.setId(UUID.randomUUID());
+            cost.setDeleted(Boolean.FALSE);
+            costs.add(cost);
+        }
+
+        return costs;
+    }
+
+    public static PriceSeriesStore priceSeriesStore() {
+        PriceSeriesStore store;
+        try {
+            store = new PriceSeriesStore(Files.createTempDirectory("benchmark-prices").toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        for (InvestmentType type : INVESTMENT_TYPES) {
+            if (!type.isCrypto()) {
+                continue;
+            }
+            for (BenchMarkRate fiat : CURRENCIES) {
+                store.record(PriceSeriesStore.cryptoKey(type.getCoinGeckoId(), fiat.name()),
+                        LocalDate.now(), 1000.0 + type.getCoinGeckoId().length());
+            }
+        }
+
+        return store;
+    }
+
+    public static CurrencyService stubCurrencyService() {
+        return new CurrencyService(new ObjectMapper(), null) {
+            @Override
+            public Double getLiveRates(String currencyCode) {
+                return 0.1075;
+            }
+        };
+    }
+}
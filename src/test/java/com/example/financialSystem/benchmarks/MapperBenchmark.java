@@ -0,0 +1,68 @@
+package com.example.financialSystem.benchmarks;
+
+import com.example.financialSystem.models.dto.responses.CostResponse;
+import com.example.financialSystem.models.dto.responses.ExpenseResponse;
+import com.example.financialSystem.models.dto.responses.InvestmentResponse;
+import com.example.financialSystem.models.entity.Cost;
+import com.example.financialSystem.models.entity.Expense;
+import com.example.financialSystem.models.entity.Investment;
+import com.example.financialSystem.models.entity.User;
+import com.example.financialSystem.models.enums.UserRole;
+import com.example.financialSystem.models.mapper.CostMapper;
+import com.example.financialSystem.models.mapper.CostMapperImpl;
+import com.example.financialSystem.models.mapper.ExpenseMapper;
+import com.example.financialSystem.models.mapper.ExpenseMapperImpl;
+import com.example.financialSystem.models.mapper.InvestmentMapper;
+import com.example.financialSystem.models.mapper.InvestmentMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapperBenchmark {
+
+    @Param({"100", "1000"})
+    private int rowCount;
+
+    private final ExpenseMapper expenseMapper = new ExpenseMapperImpl();
+    private final CostMapper costMapper = new CostMapperImpl();
+    private final InvestmentMapper investmentMapper = new InvestmentMapperImpl();
+
+    private List<Expense> expenses;
+    private List<Cost> costs;
+    private List<Investment> investments;
+
+    @Setup
+    public void setUp() {
+        User user = BenchmarkFixtures.login(UserRole.USER).getUser();
+
+        expenses = BenchmarkFixtures.expenses(rowCount, user);
+        costs = BenchmarkFixtures.costs(rowCount, user);
+        investments = BenchmarkFixtures.investments(rowCount, user);
+    }
+
+    @Benchmark
+    public List<ExpenseResponse> expenseToResponseList() {
+        return expenseMapper.toResponseList(expenses);
+    }
+
+    @Benchmark
+    public List<CostResponse> costToResponseList() {
+        return costMapper.toResponseList(costs);
+    }
+
+    @Benchmark
+    public List<InvestmentResponse> investmentToResponseList() {
+        return investmentMapper.toResponseList(investments);
+    }
+}
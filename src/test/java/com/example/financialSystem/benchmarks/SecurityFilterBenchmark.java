@@ -0,0 +1,82 @@
+package com.example.financialSystem.benchmarks;
+
+import com.example.financialSystem.configs.security.PrincipalCache;
+import com.example.financialSystem.configs.security.SecurityFilter;
+import com.example.financialSystem.models.entity.Login;
+import com.example.financialSystem.models.enums.UserRole;
+import com.example.financialSystem.repositories.LoginRepository;
+import com.example.financialSystem.repositories.UserRepository;
+import com.example.financialSystem.services.TokenService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SecurityFilterBenchmark {
+
+    private SecurityFilter cachingFilter;
+    private SecurityFilter nonCachingFilter;
+    private MockHttpServletRequest request;
+    private final FilterChain filterChain = (req, res) -> {
+    };
+
+    @Setup
+    public void setUp() {
+        Login login = BenchmarkFixtures.login(UserRole.USER);
+        TokenService tokenService = new TokenService("benchmark-secret", "primary", List.of());
+
+        LoginRepository loginRepository = Mockito.mock(LoginRepository.class);
+        Mockito.when(loginRepository.findByUsername(anyString())).thenReturn(Optional.of(login));
+
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        Mockito.when(userRepository.existsByIdAndDeletedFalse(any())).thenReturn(true);
+
+        cachingFilter = new SecurityFilter(loginRepository, userRepository, tokenService,
+                new PrincipalCache(60, 10_000));
+        nonCachingFilter = new SecurityFilter(loginRepository, userRepository, tokenService,
+                new PrincipalCache(0, 10_000));
+
+        request = new MockHttpServletRequest("GET", "/expense/list/me");
+        request.addHeader("Authorization", "Bearer " + tokenService.generateToken(login));
+    }
+
+    @Benchmark
+    public Authentication filterWithCachedPrincipal() throws ServletException, IOException {
+        return authenticate(cachingFilter);
+    }
+
+    @Benchmark
+    public Authentication filterResolvingPrincipalPerRequest() throws ServletException, IOException {
+        return authenticate(nonCachingFilter);
+    }
+
+    private Authentication authenticate(SecurityFilter filter) throws ServletException, IOException {
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
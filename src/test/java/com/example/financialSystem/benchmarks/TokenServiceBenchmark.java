@@ -0,0 +1,63 @@
+package com.example.financialSystem.benchmarks;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.financialSystem.models.entity.Login;
+import com.example.financialSystem.models.entity.User;
+import com.example.financialSystem.models.enums.UserRole;
+import com.example.financialSystem.services.TokenService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenServiceBenchmark {
+    private static final String SECRET = "benchmark-secret";
+
+    private TokenService tokenService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenService = new TokenService(SECRET, "primary", List.of("previous:old-benchmark-secret"));
+
+        User user = new User("Benchmark", "benchmark@gmail.com", null);
+        user.setId(UUID.randomUUID());
+        user.setUserRole(UserRole.USER);
+
+        Login login = new Login();
+        login.setUser(user);
+        login.setUsername(user.getEmail());
+
+        token = tokenService.generateToken(login);
+    }
+
+    @Benchmark
+    public DecodedJWT verifyRebuildingVerifierPerRequest() {
+        return JWT.require(Algorithm.HMAC256(SECRET))
+                .withIssuer("auth-api")
+                .build()
+                .verify(token);
+    }
+
+    @Benchmark
+    public DecodedJWT verifyWithReusedVerifier() {
+        return tokenService.verifyToken(token);
+    }
+
+    @Benchmark
+    public String validateToken() {
+        return tokenService.validateToken(token);
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.financialSystem.benchmarks;
+
+import com.example.financialSystem.configs.ThreadingConfig;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class WebTierLoadBenchmark {
+
+    private static final byte[] QUOTE = "{\"bitcoin\":{\"usd\":70000.0}}".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    @Param({"200"})
+    private int providerLatencyMs;
+
+    @Param({"1000"})
+    private int concurrentRequests;
+
+    @Param({"200"})
+    private int platformThreads;
+
+    private HttpServer slowProvider;
+    private ExecutorService providerThreads;
+    private Executor webTier;
+    private HttpClient httpClient;
+    private HttpRequest request;
+
+    @Setup
+    public void setUp() throws IOException {
+        providerThreads = Executors.newCachedThreadPool();
+        slowProvider = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), concurrentRequests);
+        slowProvider.setExecutor(providerThreads);
+        slowProvider.createContext("/simple/price", exchange -> {
+            try {
+                Thread.sleep(providerLatencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, QUOTE.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(QUOTE);
+            }
+        });
+        slowProvider.start();
+
+        webTier = ThreadingConfig.newExecutor("web-", virtualThreads, platformThreads);
+        httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + slowProvider.getAddress().getPort()
+                + "/simple/price?ids=bitcoin&vs_currencies=usd")).timeout(Duration.ofSeconds(30)).build();
+    }
+
+    @Benchmark
+    public int burstOfRequestsBlockedOnSlowProvider() {
+        CompletableFuture<?>[] requests = new CompletableFuture<?>[concurrentRequests];
+
+        for (int i = 0; i < concurrentRequests; i++) {
+            requests[i] = CompletableFuture.supplyAsync(this::callProvider, webTier);
+        }
+
+        CompletableFuture.allOf(requests).join();
+        return requests.length;
+    }
+
+    private int callProvider() {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray()).statusCode();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (webTier instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        } else if (webTier instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        slowProvider.stop(0);
+        providerThreads.shutdownNow();
+    }
+}
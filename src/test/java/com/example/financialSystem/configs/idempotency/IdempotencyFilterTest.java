@@ -0,0 +1,165 @@
+package com.example.financialSystem.configs.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tests for IdempotencyFilter")
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"value\":120.00,\"description\":\"Groceries\"}";
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private IdempotencyStore store;
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyStore(60, 100, 5000);
+        filter = new IdempotencyFilter(store, new ObjectMapper().findAndRegisterModules(),
+                Set.of("/expense/create", "/cost/create", "/investments/create"));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("ana@gmail.com", null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Replay the stored response without running the handler again When a request is retried with the same key")
+    void doFilter_ReplayStoredResponse_WhenRetriedWithSameKey() throws Exception {
+        MockHttpServletResponse first = perform("key-1", BODY, created("id-1"));
+        MockHttpServletResponse retry = perform("key-1", BODY, created("id-2"));
+
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString()).contains("id-1");
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("Reject the request with 422 When a key is reused with a different body")
+    void doFilter_ReturnUnprocessable_WhenKeyReusedWithDifferentBody() throws Exception {
+        perform("key-1", BODY, created("id-1"));
+        MockHttpServletResponse reused = perform("key-1", BODY.replace("120.00", "130.00"), created("id-2"));
+
+        assertThat(executions).hasValue(1);
+        assertThat(reused.getStatus()).isEqualTo(422);
+        assertThat(reused.getContentAsString()).contains("Idempotency Key Reused");
+    }
+
+    @Test
+    @DisplayName("Run the handler again When the first attempt failed with a server error")
+    void doFilter_AllowRetry_WhenFirstAttemptFailed() throws Exception {
+        perform("key-1", BODY, (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(503);
+        });
+        MockHttpServletResponse retry = perform("key-1", BODY, created("id-1"));
+
+        assertThat(executions).hasValue(2);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Wait for the first request and replay its response When duplicates arrive concurrently")
+    void doFilter_WaitOnFirstRequest_WhenDuplicatesAreConcurrent() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<MockHttpServletResponse> first = executor.submit(() -> {
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken("ana@gmail.com", null, List.of()));
+                return perform("key-1", BODY, (request, response) -> {
+                    entered.countDown();
+                    awaitRelease(release);
+                    created("id-1").doFilter(request, response);
+                });
+            });
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<MockHttpServletResponse> duplicate = executor.submit(() -> {
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken("ana@gmail.com", null, List.of()));
+                return perform("key-1", BODY, created("id-2"));
+            });
+            Thread.sleep(100);
+            assertThat(duplicate).isNotDone();
+            release.countDown();
+
+            assertThat(duplicate.get(5, TimeUnit.SECONDS).getContentAsString())
+                    .isEqualTo(first.get(5, TimeUnit.SECONDS).getContentAsString()).contains("id-1");
+            assertThat(executions).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Keep keys of different users apart When two users send the same key")
+    void doFilter_ScopeKeyPerUser_WhenDifferentUsersShareKey() throws Exception {
+        perform("key-1", BODY, created("id-1"));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("bruno@gmail.com", null, List.of()));
+        MockHttpServletResponse other = perform("key-1", BODY, created("id-2"));
+
+        assertThat(executions).hasValue(2);
+        assertThat(other.getContentAsString()).contains("id-2");
+    }
+
+    private MockHttpServletResponse perform(String key, String body, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/expense/create");
+        request.addHeader(IdempotencyFilter.HEADER, key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, chain);
+
+        return response;
+    }
+
+    private static void awaitRelease(CountDownLatch release) {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private FilterChain created(String id) {
+        return (request, response) -> {
+            executions.incrementAndGet();
+            assertThat(request.getInputStream().readAllBytes()).isNotEmpty();
+            response.setContentType("application/json");
+            ((HttpServletResponse) response).setStatus(201);
+            response.getOutputStream().write(("{\"id\":\"" + id + "\"}").getBytes(StandardCharsets.UTF_8));
+        };
+    }
+}
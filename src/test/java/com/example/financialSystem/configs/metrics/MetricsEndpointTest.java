@@ -0,0 +1,63 @@
+package com.example.financialSystem.configs.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@DisplayName("Tests for Prometheus metrics endpoint")
+class MetricsEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Test
+    @DisplayName("Expose request, SQL statement, Hibernate and cache metrics When scraped by an admin")
+    void prometheus_ExposeApplicationMetrics_WhenScrapedByAdmin() throws Exception {
+        mockMvc.perform(get("/expense/list/me"));
+
+        String body = mockMvc.perform(get("/actuator/prometheus").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body)
+                .contains("http_server_requests_sql_statements")
+                .contains("hibernate_query_executions_total")
+                .contains("hibernate_second_level_cache_requests_total")
+                .contains("hibernate_cache_query_requests_total");
+    }
+
+    @Test
+    @DisplayName("Reject the scrape When the caller is anonymous")
+    void prometheus_Reject_WhenScrapedAnonymously() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().is4xxClientError());
+    }
+
+    @Test
+    @DisplayName("Count statements issued on the current thread When counting is started")
+    void inspect_CountStatements_WhenCountingStarted() {
+        sqlStatementCounter.inspect("select 1");
+
+        sqlStatementCounter.start();
+        sqlStatementCounter.inspect("select 1");
+        sqlStatementCounter.inspect("select 2");
+
+        assertThat(sqlStatementCounter.stop()).isEqualTo(2);
+        assertThat(sqlStatementCounter.stop()).isZero();
+    }
+}
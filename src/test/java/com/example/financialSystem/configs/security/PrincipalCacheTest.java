@@ -0,0 +1,101 @@
+package com.example.financialSystem.configs.security;
+
+import com.example.financialSystem.models.entity.Login;
+import com.example.financialSystem.models.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tests for PrincipalCache")
+class PrincipalCacheTest {
+
+    private final Instant issuedAt = Instant.parse("2026-01-01T10:00:00Z");
+
+    @Test
+    @DisplayName("Return cached principal When the same subject and issue time are looked up")
+    void get_ReturnPrincipal_WhenKeyIsCached() {
+        PrincipalCache cache = new PrincipalCache(60, 10);
+        PrincipalCache.Principal principal = principal(UUID.randomUUID(), "ana@gmail.com");
+        PrincipalCache.PrincipalKey key = new PrincipalCache.PrincipalKey("ana@gmail.com", issuedAt);
+
+        cache.put(key, principal);
+
+        assertThat(cache.get(key)).contains(principal);
+        assertThat(cache.get(new PrincipalCache.PrincipalKey("ana@gmail.com", issuedAt.plusSeconds(1)))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Drop every token of a user When the user is evicted")
+    void evictUser_RemoveAllEntriesOfUser_WhenCalled() {
+        PrincipalCache cache = new PrincipalCache(60, 10);
+        UUID anaId = UUID.randomUUID();
+        PrincipalCache.PrincipalKey first = new PrincipalCache.PrincipalKey("ana@gmail.com", issuedAt);
+        PrincipalCache.PrincipalKey second = new PrincipalCache.PrincipalKey("ana@gmail.com", issuedAt.plusSeconds(60));
+        PrincipalCache.PrincipalKey other = new PrincipalCache.PrincipalKey("bruno@gmail.com", issuedAt);
+
+        cache.put(first, principal(anaId, "ana@gmail.com"));
+        cache.put(second, principal(anaId, "ana@gmail.com"));
+        cache.put(other, principal(UUID.randomUUID(), "bruno@gmail.com"));
+
+        cache.evictUser(anaId);
+
+        assertThat(cache.get(first)).isEmpty();
+        assertThat(cache.get(second)).isEmpty();
+        assertThat(cache.get(other)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Stay within max size When more principals than capacity are cached")
+    void put_EvictOldestToken_WhenCacheIsFull() {
+        PrincipalCache cache = new PrincipalCache(60, 2);
+
+        for (int i = 0; i < 5; i++) {
+            cache.put(new PrincipalCache.PrincipalKey("user" + i, issuedAt.plusSeconds(i)),
+                    principal(UUID.randomUUID(), "user" + i));
+        }
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(new PrincipalCache.PrincipalKey("user4", issuedAt.plusSeconds(4)))).isPresent();
+    }
+
+    @Test
+    @DisplayName("Evict the least recently used entry When legacy tokens without an issue time fill the cache")
+    void put_EvictLeastRecentlyUsed_WhenKeysHaveNoIssueTime() {
+        PrincipalCache cache = new PrincipalCache(60, 2);
+        PrincipalCache.PrincipalKey ana = new PrincipalCache.PrincipalKey("ana@gmail.com", null);
+        PrincipalCache.PrincipalKey bruno = new PrincipalCache.PrincipalKey("bruno@gmail.com", null);
+        PrincipalCache.PrincipalKey carla = new PrincipalCache.PrincipalKey("carla@gmail.com", null);
+
+        cache.put(ana, principal(UUID.randomUUID(), "ana@gmail.com"));
+        cache.put(bruno, principal(UUID.randomUUID(), "bruno@gmail.com"));
+        cache.get(ana);
+        cache.put(carla, principal(UUID.randomUUID(), "carla@gmail.com"));
+
+        assertThat(cache.get(ana)).isPresent();
+        assertThat(cache.get(bruno)).isEmpty();
+        assertThat(cache.get(carla)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Build a separate login on each call When a cached principal is turned into a login")
+    void toLogin_ReturnFreshInstance_WhenCalledTwice() {
+        PrincipalCache.Principal principal = principal(UUID.randomUUID(), "ana@gmail.com");
+
+        Login first = principal.toLogin();
+        Login second = principal.toLogin();
+
+        assertThat(first).isNotSameAs(second);
+        assertThat(first.getUser()).isNotSameAs(second.getUser());
+        assertThat(first.getUser().getId()).isEqualTo(principal.userId());
+        assertThat(first.isEnabled()).isTrue();
+        assertThat(first.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_USER");
+    }
+
+    private static PrincipalCache.Principal principal(UUID userId, String username) {
+        return new PrincipalCache.Principal(userId, username, UserRole.USER);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.financialSystem.repositories;
+
+import com.example.financialSystem.exceptions.InvalidCursorException;
+import com.example.financialSystem.models.entity.Expense;
+import com.example.financialSystem.models.entity.User;
+import com.example.financialSystem.models.enums.ExpenseType;
+import com.example.financialSystem.utils.BenchMarkRate;
+import com.example.financialSystem.utils.KeysetCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Window;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@DisplayName("Tests for keyset pagination on Expense Repository")
+class ExpenseKeysetRepositoryTest {
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("John", "john@gmail.com", LocalDate.of(1990, 1, 1)));
+
+        for (int day = 1; day <= 5; day++) {
+            expenseRepository.save(createExpense(LocalDate.of(2024, 6, day), false));
+        }
+        expenseRepository.save(createExpense(LocalDate.of(2024, 6, 3), true));
+    }
+
+    @Test
+    @DisplayName("Walk every active expense in date order When following the cursors")
+    void findByUserAndDeletedFalse_ReturnAllPagesInOrder_WhenFollowingCursors() {
+        List<LocalDate> dates = new ArrayList<>();
+        String cursor = null;
+
+        do {
+            Window<Expense> window = expenseRepository.findByUserAndDeletedFalse(
+                    user, KeysetCursor.decode(cursor), KeysetCursor.SORT, KeysetCursor.limit(2));
+
+            window.getContent().forEach(expense -> dates.add(expense.getDateFinancial()));
+            cursor = KeysetCursor.toPage(window, content -> content).nextCursor();
+        } while (cursor != null);
+
+        assertThat(dates).containsExactly(
+                LocalDate.of(2024, 6, 1),
+                LocalDate.of(2024, 6, 2),
+                LocalDate.of(2024, 6, 3),
+                LocalDate.of(2024, 6, 4),
+                LocalDate.of(2024, 6, 5)
+        );
+    }
+
+    @Test
+    @DisplayName("Reject the cursor When the client sends a malformed one")
+    void decode_ThrowsInvalidCursorException_WhenCursorIsMalformed() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor!"))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode("bm9wZQ"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("Stream only active expenses of the user in date order")
+    void streamByUser_ReturnActiveExpensesInOrder_WhenSuccessful() {
+        try (Stream<Expense> stream = expenseRepository.streamByUser(user)) {
+            assertThat(stream.map(Expense::getDateFinancial).toList())
+                    .hasSize(5)
+                    .isSorted();
+        }
+    }
+
+    private Expense createExpense(LocalDate date, boolean deleted) {
+        return Expense.builder()
+                .expenseType(ExpenseType.FOOD)
+                .value(BigDecimal.valueOf(100.00))
+                .baseCurrency(BenchMarkRate.BRL)
+                .dateFinancial(date)
+                .description("Dinner")
+                .paymentMethod("CASH")
+                .deleted(deleted)
+                .user(user)
+                .build();
+    }
+}
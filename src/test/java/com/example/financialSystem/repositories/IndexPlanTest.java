@@ -0,0 +1,153 @@
+package com.example.financialSystem.repositories;
+
+import com.example.financialSystem.models.entity.User;
+import com.example.financialSystem.models.enums.CostType;
+import com.example.financialSystem.models.enums.ExpenseType;
+import com.example.financialSystem.models.enums.InvestmentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.example.financialSystem.repositories.CapturedSql"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Tests for query plans of repository hot paths on the migrated PostgreSQL schema")
+class IndexPlanTest {
+
+    private static final Pattern INDEX_NODE = Pattern.compile("(?:Index Scan|Index Only Scan) using (\\S+)|Bitmap Index Scan on (\\S+)");
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\?");
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CostRepository costRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private InvestmentRepository investmentRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.saveAndFlush(new User("John", "john@gmail.com", LocalDate.of(1990, 1, 1)));
+
+        jdbcTemplate.update("INSERT INTO financial (id, user_id, value, base_currency, date_financial, financial_type, " +
+                "description, deleted, created_at, updated_at) " +
+                "SELECT gen_random_uuid(), ?, g % 500 + 0.99, 'BRL', DATE '2024-01-01' + g % 366, " +
+                "(ARRAY['COST', 'EXPENSE', 'INVESTMENT'])[g % 3 + 1], 'seed', g % 10 <> 0, now(), now() " +
+                "FROM generate_series(1, 6000) g", user.getId());
+        jdbcTemplate.update("INSERT INTO cost (id, cost_type) SELECT id, 'TAX' FROM financial WHERE financial_type = 'COST'");
+        jdbcTemplate.update("INSERT INTO expense (id, expense_type, payment_method, is_fixed) " +
+                "SELECT id, 'FOOD', 'PIX', false FROM financial WHERE financial_type = 'EXPENSE'");
+        jdbcTemplate.update("INSERT INTO investment (id, investment_type, action_quantity, broker_name) " +
+                "SELECT id, 'STOCK', 1, 'Broker ' || row_number() OVER () % 200 FROM financial WHERE financial_type = 'INVESTMENT'");
+        jdbcTemplate.update("INSERT INTO refresh_tokens (token_hash, family_id, user_id, expiry_date, created_at, revoked) " +
+                "SELECT md5(g::text), gen_random_uuid(), ?, now() + INTERVAL '1 day', now(), g % 10 <> 0 " +
+                "FROM generate_series(1, 2000) g", user.getId());
+        jdbcTemplate.execute("ANALYZE");
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    @Test
+    @DisplayName("sumMonthlyByType reads the active user date index When filtering a user's active rows by date")
+    void sumMonthlyByType_UsesActiveUserDateIndex_WhenFilteringActiveRowsByDate() {
+        CapturedSql.clear();
+        costRepository.sumMonthlyByType(user, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+
+        assertThat(indexesUsedBy(CapturedSql.first())).contains("idx_financial_user_date_active");
+    }
+
+    @Test
+    @DisplayName("existsByUserAndCostTypeAndDateFinancial reads the user date value index When checking duplicates")
+    void existsByUserAndCostTypeAndDateFinancial_UsesUserDateValueIndex_WhenCheckingDuplicates() {
+        CapturedSql.clear();
+        costRepository.existsByUserAndCostTypeAndDateFinancial(user, CostType.TAX, LocalDate.of(2024, 5, 1));
+
+        assertThat(indexesUsedBy(CapturedSql.first())).contains("idx_financial_user_date_value");
+    }
+
+    @Test
+    @DisplayName("findByUserAndExpenseTypeAndDateFinancialAndValueAndPaymentMethod reads the user date value index When checking duplicates")
+    void findByUserAndExpenseTypeAndDateFinancialAndValueAndPaymentMethod_UsesUserDateValueIndex_WhenCheckingDuplicates() {
+        CapturedSql.clear();
+        expenseRepository.findByUserAndExpenseTypeAndDateFinancialAndValueAndPaymentMethod(
+                user, ExpenseType.FOOD, LocalDate.of(2024, 5, 1), new BigDecimal("12.50"), "PIX");
+
+        assertThat(indexesUsedBy(CapturedSql.first())).contains("idx_financial_user_date_value");
+    }
+
+    @Test
+    @DisplayName("findByUserAndInvestmentTypeAndBrokerName reads the broker type index When checking duplicates")
+    void findByUserAndInvestmentTypeAndBrokerName_UsesBrokerTypeIndex_WhenCheckingDuplicates() {
+        CapturedSql.clear();
+        investmentRepository.findByUserAndInvestmentTypeAndBrokerName(user, InvestmentType.STOCK, "XP");
+
+        assertThat(indexesUsedBy(CapturedSql.first())).contains("idx_investment_broker_type");
+    }
+
+    @Test
+    @DisplayName("revokeByUserId reads the active user index When revoking refresh tokens")
+    void revokeByUserId_UsesActiveUserIndex_WhenRevokingTokens() {
+        CapturedSql.clear();
+        refreshTokenRepository.revokeByUserId(user.getId());
+
+        assertThat(indexesUsedBy(CapturedSql.first())).contains("idx_refresh_tokens_user_active");
+    }
+
+    private Set<String> indexesUsedBy(String sql) {
+        Matcher placeholders = PLACEHOLDER.matcher(sql);
+        StringBuilder numbered = new StringBuilder();
+        int index = 0;
+        while (placeholders.find()) {
+            placeholders.appendReplacement(numbered, "\\$" + ++index);
+        }
+        placeholders.appendTail(numbered);
+
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN (GENERIC_PLAN) " + numbered, String.class));
+
+        Set<String> indexes = new TreeSet<>();
+        Matcher nodes = INDEX_NODE.matcher(plan);
+        while (nodes.find()) {
+            indexes.add(nodes.group(1) != null ? nodes.group(1) : nodes.group(2));
+        }
+
+        return indexes;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.financialSystem.repositories;
+
+import com.example.financialSystem.models.dto.responses.CostResponse;
+import com.example.financialSystem.models.dto.responses.ExpenseResponse;
+import com.example.financialSystem.models.dto.responses.InvestmentResponse;
+import com.example.financialSystem.models.entity.Cost;
+import com.example.financialSystem.models.entity.Expense;
+import com.example.financialSystem.models.entity.Investment;
+import com.example.financialSystem.models.entity.User;
+import com.example.financialSystem.models.enums.CostType;
+import com.example.financialSystem.models.enums.ExpenseType;
+import com.example.financialSystem.models.enums.FinancialType;
+import com.example.financialSystem.models.enums.InvestmentType;
+import com.example.financialSystem.utils.BenchMarkRate;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+@DataJpaTest
+@DisplayName("Tests for list projections on Expense, Cost and Investment Repositories")
+class ListProjectionRepositoryTest {
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private CostRepository costRepository;
+
+    @Autowired
+    private InvestmentRepository investmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("John", "john@gmail.com", LocalDate.of(1990, 1, 1)));
+        User other = userRepository.save(new User("Mary", "mary@gmail.com", LocalDate.of(1990, 1, 1)));
+
+        saveExpense(user, "20.00", LocalDate.of(2024, 6, 1), false);
+        saveExpense(user, "10.00", LocalDate.of(2024, 5, 1), false);
+        saveExpense(user, "99.00", LocalDate.of(2024, 5, 2), true);
+        saveExpense(other, "50.00", LocalDate.of(2024, 5, 3), false);
+
+        costRepository.save(Cost.builder()
+                .costType(CostType.FIXED).value(new BigDecimal("1200.00")).baseCurrency(BenchMarkRate.BRL)
+                .dateFinancial(LocalDate.of(2024, 6, 5)).description("Rent").user(user).build());
+
+        investmentRepository.save(Investment.builder()
+                .investmentType(InvestmentType.STOCK).brokerName("XP").actionQuantity(10)
+                .value(new BigDecimal("500.00")).baseCurrency(BenchMarkRate.USD)
+                .dateFinancial(LocalDate.of(2024, 4, 1)).description("ETF").user(user).build());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("findResponsesByUser returns the user's active expenses by date without loading entities")
+    void findResponsesByUser_ReturnsActiveExpensesWithoutEntities_WhenUserHasExpenses() {
+        List<ExpenseResponse> responses = expenseRepository.findResponsesByUser(user);
+
+        assertThat(responses)
+                .extracting(ExpenseResponse::getValue, ExpenseResponse::getFinancialType, ExpenseResponse::getPaymentMethod)
+                .containsExactly(
+                        tuple(new BigDecimal("10.00"), FinancialType.EXPENSE, "PIX"),
+                        tuple(new BigDecimal("20.00"), FinancialType.EXPENSE, "PIX"));
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findAllActiveResponses returns every user's active expenses When called")
+    void findAllActiveResponses_ReturnsActiveExpensesOfEveryUser_WhenCalled() {
+        assertThat(expenseRepository.findAllActiveResponses()).hasSize(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("findResponsesByUser maps cost and investment columns When projecting")
+    void findResponsesByUser_MapsCostAndInvestmentColumns_WhenProjecting() {
+        List<CostResponse> costs = costRepository.findResponsesByUser(user);
+        List<InvestmentResponse> investments = investmentRepository.findResponsesByUser(user);
+
+        assertThat(costs).singleElement().satisfies(cost -> {
+            assertThat(cost.getCostType()).isEqualTo(CostType.FIXED);
+            assertThat(cost.getFinancialType()).isEqualTo(FinancialType.COST);
+            assertThat(cost.getValue()).isEqualByComparingTo("1200.00");
+        });
+        assertThat(investments).singleElement().satisfies(investment -> {
+            assertThat(investment.getInvestmentType()).isEqualTo(InvestmentType.STOCK);
+            assertThat(investment.getFinancialType()).isEqualTo(FinancialType.INVESTMENT);
+            assertThat(investment.getActionQuantity()).isEqualTo(10);
+            assertThat(investment.getBrokerName()).isEqualTo("XP");
+            assertThat(investment.getCurrentValue()).isNull();
+        });
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private void saveExpense(User owner, String value, LocalDate date, boolean deleted) {
+        expenseRepository.save(Expense.builder()
+                .expenseType(ExpenseType.FOOD).paymentMethod("PIX")
+                .value(new BigDecimal(value)).baseCurrency(BenchMarkRate.BRL)
+                .dateFinancial(date).description("Meal").user(owner).deleted(deleted).build());
+    }
+}
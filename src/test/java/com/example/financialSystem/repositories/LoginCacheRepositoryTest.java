@@ -0,0 +1,107 @@
+package com.example.financialSystem.repositories;
+
+import com.example.financialSystem.models.entity.Login;
+import com.example.financialSystem.models.entity.User;
+import com.example.financialSystem.models.enums.UserRole;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Tests for Login and User second-level cache")
+class LoginCacheRepositoryTest {
+
+    @Autowired
+    private LoginRepository loginRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User("Cached User", "cached@gmail.com", LocalDate.of(1990, 1, 1));
+        user.setUserRole(UserRole.USER);
+        user.setDeleted(false);
+
+        Login login = new Login();
+        login.setUsername(user.getEmail());
+        login.setPassword("secret");
+        login.setUser(user);
+        user.setLogin(login);
+
+        user = userRepository.save(user);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        loginRepository.deleteAll();
+        userRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("findByUsername serves repeated lookups from the query and entity caches")
+    void findByUsername_ServesFromCache_WhenCalledRepeatedly() {
+        Login cached = loginRepository.findByUsername("cached@gmail.com").orElseThrow();
+        long statementsAfterFirstLookup = statistics.getPrepareStatementCount();
+
+        Login login = loginRepository.findByUsername("cached@gmail.com").orElseThrow();
+
+        assertThat(login.getUser().getName()).isEqualTo("Cached User");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirstLookup);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(entityManagerFactory.getCache().contains(Login.class, cached.getId())).isTrue();
+        assertThat(entityManagerFactory.getCache().contains(User.class, user.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("findById returns patched values When the user is updated after being cached")
+    void findById_ReturnsPatchedValues_WhenUserUpdatedAfterCaching() {
+        userRepository.findById(user.getId());
+
+        User patched = userRepository.findById(user.getId()).orElseThrow();
+        patched.setName("Renamed User");
+        userRepository.save(patched);
+
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getName()).isEqualTo("Renamed User");
+        assertThat(loginRepository.findByUsername("cached@gmail.com").orElseThrow().getUser().getName())
+                .isEqualTo("Renamed User");
+    }
+
+    @Test
+    @DisplayName("existsByIdAndDeletedFalse returns false When the cached user is soft deleted")
+    void existsByIdAndDeletedFalse_ReturnsFalse_WhenCachedUserSoftDeleted() {
+        assertThat(userRepository.existsByIdAndDeletedFalse(user.getId())).isTrue();
+        assertThat(userRepository.existsByIdAndDeletedFalse(user.getId())).isTrue();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        User deleted = userRepository.findById(user.getId()).orElseThrow();
+        deleted.setDeleted(true);
+        userRepository.save(deleted);
+
+        assertThat(userRepository.existsByIdAndDeletedFalse(user.getId())).isFalse();
+        assertThat(loginRepository.findByUsername("cached@gmail.com").orElseThrow().isEnabled()).isFalse();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.financialSystem.repositories;
+
+import com.example.financialSystem.models.dto.projections.MonthlyTotalRow;
+import com.example.financialSystem.models.entity.Cost;
+import com.example.financialSystem.models.entity.Expense;
+import com.example.financialSystem.models.entity.User;
+import com.example.financialSystem.models.enums.CostType;
+import com.example.financialSystem.models.enums.ExpenseType;
+import com.example.financialSystem.utils.BenchMarkRate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+@DataJpaTest
+@DisplayName("Tests for monthly totals on Expense and Cost Repositories")
+class MonthlyTotalsRepositoryTest {
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private CostRepository costRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("John", "john@gmail.com", LocalDate.of(1990, 1, 1)));
+        User other = userRepository.save(new User("Mary", "mary@gmail.com", LocalDate.of(1990, 1, 1)));
+
+        saveExpense(user, ExpenseType.FOOD, "10.00", LocalDate.of(2024, 5, 3), false);
+        saveExpense(user, ExpenseType.FOOD, "15.50", LocalDate.of(2024, 5, 20), false);
+        saveExpense(user, ExpenseType.TRANSPORT, "7.00", LocalDate.of(2024, 5, 21), false);
+        saveExpense(user, ExpenseType.FOOD, "30.00", LocalDate.of(2024, 6, 1), false);
+        saveExpense(user, ExpenseType.FOOD, "99.00", LocalDate.of(2024, 6, 2), true);
+        saveExpense(user, ExpenseType.FOOD, "50.00", LocalDate.of(2024, 7, 1), false);
+        saveExpense(other, ExpenseType.FOOD, "1000.00", LocalDate.of(2024, 5, 3), false);
+
+        costRepository.save(Cost.builder()
+                .costType(CostType.FIXED).value(new BigDecimal("1200.00")).baseCurrency(BenchMarkRate.BRL)
+                .dateFinancial(LocalDate.of(2024, 6, 5)).description("Rent").user(user).build());
+    }
+
+    @Test
+    @DisplayName("Group active expenses by month, type and currency When a range is given")
+    void sumMonthlyByType_GroupExpenses_WhenRangeIsGiven() {
+        List<MonthlyTotalRow> rows = expenseRepository.sumMonthlyByType(
+                user, LocalDate.of(2024, 5, 1), LocalDate.of(2024, 6, 30));
+
+        assertThat(rows)
+                .extracting(MonthlyTotalRow::month, MonthlyTotalRow::category, MonthlyTotalRow::count)
+                .containsExactly(
+                        tuple(5, "FOOD", 2L),
+                        tuple(5, "TRANSPORT", 1L),
+                        tuple(6, "FOOD", 1L)
+                );
+        assertThat(rows.get(0).total()).isEqualByComparingTo("25.50");
+    }
+
+    @Test
+    @DisplayName("Group costs by month and cost type When a range is given")
+    void sumMonthlyByType_GroupCosts_WhenRangeIsGiven() {
+        List<MonthlyTotalRow> rows = costRepository.sumMonthlyByType(
+                user, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+
+        assertThat(rows).singleElement().satisfies(row -> {
+            assertThat(row.category()).isEqualTo("FIXED");
+            assertThat(row.currency()).isEqualTo(BenchMarkRate.BRL);
+            assertThat(row.total()).isEqualByComparingTo("1200.00");
+        });
+    }
+
+    private void saveExpense(User owner, ExpenseType type, String value, LocalDate date, boolean deleted) {
+        expenseRepository.save(Expense.builder()
+                .expenseType(type).value(new BigDecimal(value)).baseCurrency(BenchMarkRate.BRL)
+                .dateFinancial(date).description("Expense").paymentMethod("CASH")
+                .deleted(deleted).user(owner).build());
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.financialSystem.repositories;
+
+import com.example.financialSystem.models.entity.Cost;
+import com.example.financialSystem.models.entity.Expense;
+import com.example.financialSystem.models.entity.Investment;
+import com.example.financialSystem.models.entity.User;
+import com.example.financialSystem.models.enums.CostType;
+import com.example.financialSystem.models.enums.ExpenseType;
+import com.example.financialSystem.models.enums.InvestmentType;
+import com.example.financialSystem.utils.BenchMarkRate;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("Tests for owner-scoped lookups on Expense, Cost and Investment Repositories")
+class OwnedLookupRepositoryTest {
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private CostRepository costRepository;
+
+    @Autowired
+    private InvestmentRepository investmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private User owner;
+    private User stranger;
+    private Expense expense;
+    private Cost cost;
+    private Investment investment;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User("John", "john@gmail.com", LocalDate.of(1990, 1, 1)));
+        stranger = userRepository.save(new User("Mary", "mary@gmail.com", LocalDate.of(1990, 1, 1)));
+
+        expense = expenseRepository.save(Expense.builder()
+                .expenseType(ExpenseType.FOOD).paymentMethod("PIX")
+                .value(new BigDecimal("10.00")).baseCurrency(BenchMarkRate.BRL)
+                .dateFinancial(LocalDate.of(2024, 5, 1)).description("Meal").user(owner).build());
+        cost = costRepository.save(Cost.builder()
+                .costType(CostType.FIXED).value(new BigDecimal("1200.00")).baseCurrency(BenchMarkRate.BRL)
+                .dateFinancial(LocalDate.of(2024, 6, 5)).description("Rent").user(owner).build());
+        investment = investmentRepository.save(Investment.builder()
+                .investmentType(InvestmentType.STOCK).brokerName("XP").actionQuantity(10)
+                .value(new BigDecimal("500.00")).baseCurrency(BenchMarkRate.USD)
+                .dateFinancial(LocalDate.of(2024, 4, 1)).description("ETF").user(owner).build());
+
+        entityManager.flush();
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("findByIdAndUserId returns the record with its user in one statement When the caller owns it")
+    void findByIdAndUserId_ReturnsRecordInOneStatement_WhenCallerOwnsIt() {
+        Expense found = expenseRepository.findByIdAndUserId(expense.getId(), owner.getId()).orElseThrow();
+
+        assertThat(found.getUser().getName()).isEqualTo("John");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("findByIdAndUserId returns empty for every financial type When the caller does not own the record")
+    void findByIdAndUserId_ReturnsEmpty_WhenCallerDoesNotOwnRecord() {
+        assertThat(expenseRepository.findByIdAndUserId(expense.getId(), stranger.getId())).isEmpty();
+        assertThat(costRepository.findByIdAndUserId(cost.getId(), stranger.getId())).isEmpty();
+        assertThat(investmentRepository.findByIdAndUserId(investment.getId(), stranger.getId())).isEmpty();
+
+        assertThat(costRepository.findByIdAndUserId(cost.getId(), owner.getId())).isPresent();
+        assertThat(investmentRepository.findByIdAndUserId(investment.getId(), owner.getId())).isPresent();
+    }
+}
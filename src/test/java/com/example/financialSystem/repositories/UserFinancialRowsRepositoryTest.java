@@ -0,0 +1,67 @@
+package com.example.financialSystem.repositories;
+
+import com.example.financialSystem.models.dto.projections.UserFinancialRow;
+import com.example.financialSystem.models.dto.projections.UserSummary;
+import com.example.financialSystem.models.entity.Cost;
+import com.example.financialSystem.models.entity.Expense;
+import com.example.financialSystem.models.entity.User;
+import com.example.financialSystem.models.enums.CostType;
+import com.example.financialSystem.models.enums.ExpenseType;
+import com.example.financialSystem.models.enums.FinancialType;
+import com.example.financialSystem.utils.BenchMarkRate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+@DataJpaTest
+@DisplayName("Tests for user financial projections on User Repository")
+class UserFinancialRowsRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private CostRepository costRepository;
+
+    @Test
+    @DisplayName("Page active users and stream their financial rows grouped by user")
+    void streamFinancialRows_ReturnRowsOfPagedUsers_WhenSuccessful() {
+        User ana = userRepository.save(new User("Ana", "ana@gmail.com", LocalDate.of(1990, 1, 1)));
+        User bruno = userRepository.save(new User("Bruno", "bruno@gmail.com", LocalDate.of(1991, 1, 1)));
+
+        expenseRepository.save(Expense.builder()
+                .expenseType(ExpenseType.FOOD).value(BigDecimal.TEN).baseCurrency(BenchMarkRate.BRL)
+                .dateFinancial(LocalDate.of(2024, 6, 1)).description("Lunch").paymentMethod("CASH")
+                .user(ana).build());
+        costRepository.save(Cost.builder()
+                .costType(CostType.FIXED).value(BigDecimal.ONE).baseCurrency(BenchMarkRate.BRL)
+                .dateFinancial(LocalDate.of(2024, 6, 2)).description("Rent")
+                .user(bruno).build());
+
+        List<UserSummary> firstPage = userRepository.findActiveSummaries(PageRequest.of(0, 1));
+
+        assertThat(firstPage).extracting(UserSummary::name).containsExactly("Ana");
+
+        try (Stream<UserFinancialRow> rows = userRepository.streamFinancialRows(List.of(ana.getId(), bruno.getId()))) {
+            assertThat(rows.toList())
+                    .extracting(UserFinancialRow::userId, UserFinancialRow::financialType)
+                    .containsExactlyInAnyOrder(
+                            tuple(ana.getId(), FinancialType.EXPENSE),
+                            tuple(bruno.getId(), FinancialType.COST)
+                    );
+        }
+    }
+}
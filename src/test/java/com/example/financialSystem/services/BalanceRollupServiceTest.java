@@ -0,0 +1,115 @@
+package com.example.financialSystem.services;
+
+import com.example.financialSystem.models.entity.BalanceRollup;
+import com.example.financialSystem.models.entity.Expense;
+import com.example.financialSystem.models.entity.User;
+import com.example.financialSystem.models.enums.ExpenseType;
+import com.example.financialSystem.models.enums.FinancialType;
+import com.example.financialSystem.repositories.BalanceRollupRepository;
+import com.example.financialSystem.repositories.ExpenseRepository;
+import com.example.financialSystem.repositories.UserRepository;
+import com.example.financialSystem.utils.BenchMarkRate;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+@DataJpaTest
+@DisplayName("Tests for BalanceRollupService")
+class BalanceRollupServiceTest {
+
+    @Autowired
+    private BalanceRollupRepository balanceRollupRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private BalanceRollupService balanceRollupService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        balanceRollupService = new BalanceRollupService(balanceRollupRepository, transactionManager);
+        user = userRepository.save(new User("John", "john@gmail.com", LocalDate.of(1990, 1, 1)));
+    }
+
+    @Test
+    @DisplayName("Keep monthly totals in step When expenses are created, moved and soft deleted")
+    void apply_MaintainMonthlyTotals_WhenExpensesChange() {
+        Expense lunch = saveExpense("10.00", LocalDate.of(2024, 5, 3));
+        Expense dinner = saveExpense("25.00", LocalDate.of(2024, 5, 20));
+        balanceRollupService.applyCreated(List.of(lunch, dinner));
+
+        BalanceRollupService.Contribution before = BalanceRollupService.Contribution.of(dinner);
+        dinner.setDateFinancial(LocalDate.of(2024, 6, 2));
+        dinner.setValue(new BigDecimal("30.00"));
+        balanceRollupService.apply(before, BalanceRollupService.Contribution.of(expenseRepository.save(dinner)));
+
+        before = BalanceRollupService.Contribution.of(lunch);
+        lunch.setDeleted(Boolean.TRUE);
+        balanceRollupService.apply(before, BalanceRollupService.Contribution.of(expenseRepository.save(lunch)));
+
+        assertThat(rollups())
+                .extracting(BalanceRollup::getPeriodStart, BalanceRollup::getEntryCount)
+                .containsExactly(
+                        tuple(LocalDate.of(2024, 5, 1), 0L),
+                        tuple(LocalDate.of(2024, 6, 1), 1L)
+                );
+        assertThat(rollups().get(1).getTotal()).isEqualByComparingTo("30.00");
+        assertThat(rollups().get(1).getFinancialType()).isEqualTo(FinancialType.EXPENSE);
+    }
+
+    @Test
+    @DisplayName("Correct drifted and stale rows When rebuilding from the base tables")
+    void rebuild_ReconcileRollup_WhenRowsDrifted() {
+        Expense lunch = saveExpense("10.00", LocalDate.of(2024, 5, 3));
+        saveExpense("5.00", LocalDate.of(2024, 5, 4));
+        balanceRollupService.applyCreated(List.of(lunch));
+        balanceRollupRepository.save(new BalanceRollup(null, user.getId(), LocalDate.of(2023, 1, 1),
+                FinancialType.EXPENSE, BenchMarkRate.BRL, BigDecimal.ONE, 1, LocalDateTime.now()));
+
+        int corrected = balanceRollupService.rebuild();
+
+        assertThat(corrected).isEqualTo(2);
+        assertThat(rollups()).singleElement().satisfies(rollup -> {
+            assertThat(rollup.getPeriodStart()).isEqualTo(LocalDate.of(2024, 5, 1));
+            assertThat(rollup.getTotal()).isEqualByComparingTo("15.00");
+            assertThat(rollup.getEntryCount()).isEqualTo(2);
+        });
+        assertThat(balanceRollupService.rebuild()).isZero();
+    }
+
+    private List<BalanceRollup> rollups() {
+        entityManager.flush();
+        entityManager.clear();
+        return balanceRollupRepository.findByUserIdAndPeriodStartBetweenOrderByPeriodStartAscFinancialTypeAscCurrencyAsc(
+                user.getId(), LocalDate.of(2000, 1, 1), LocalDate.of(2100, 1, 1));
+    }
+
+    private Expense saveExpense(String value, LocalDate date) {
+        return expenseRepository.save(Expense.builder()
+                .expenseType(ExpenseType.FOOD).value(new BigDecimal(value)).baseCurrency(BenchMarkRate.BRL)
+                .dateFinancial(date).description("Meal").paymentMethod("CASH")
+                .user(user).build());
+    }
+}
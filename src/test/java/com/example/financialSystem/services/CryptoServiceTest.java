@@ -0,0 +1,101 @@
+package com.example.financialSystem.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tests for CryptoService")
+class CryptoServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CryptoService cryptoService;
+    private StubPriceServer server;
+
+    private final CryptoService.QuoteKey bitcoinBrl = new CryptoService.QuoteKey("bitcoin", "BRL");
+    private final CryptoService.QuoteKey ethereumUsd = new CryptoService.QuoteKey("ethereum", "usd");
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new StubPriceServer();
+
+        PriceProviderClient client = new PriceProviderClient(new ObjectMapper(), meterRegistry,
+                1000, 2000, 1, 0, 4, 5, 30_000, ForkJoinPool.commonPool());
+        cryptoService = new CryptoService(client);
+        ReflectionTestUtils.setField(cryptoService, "apiUrl", server.url());
+        ReflectionTestUtils.setField(cryptoService, "cacheTtlSeconds", 60L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Fetch all quotes in a single call When several pairs are requested")
+    void getCryptoPrices_FetchInSingleCall_WhenSeveralPairsRequested() {
+        server.enqueue("/simple/price?ids=bitcoin,ethereum&vs_currencies=brl,usd", 200,
+                "{\"bitcoin\":{\"brl\":350000.0,\"usd\":70000.0},\"ethereum\":{\"brl\":18000.0,\"usd\":3500.0}}");
+
+        Map<CryptoService.QuoteKey, Double> prices = cryptoService.getCryptoPrices(List.of(bitcoinBrl, ethereumUsd, bitcoinBrl));
+
+        assertThat(prices).containsEntry(bitcoinBrl, 350000.0).containsEntry(ethereumUsd, 3500.0);
+        assertThat(server.requests()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Serve quote from cache When it is still fresh")
+    void getCryptoPrice_ServeFromCache_WhenQuoteIsFresh() {
+        server.enqueue("/simple/price?ids=bitcoin&vs_currencies=brl", 200, "{\"bitcoin\":{\"brl\":350000.0}}");
+
+        Double first = cryptoService.getCryptoPrice("bitcoin", "brl");
+        Double second = cryptoService.getCryptoPrice("bitcoin", "BRL");
+
+        assertThat(first).isEqualTo(350000.0);
+        assertThat(second).isEqualTo(350000.0);
+        assertThat(server.requests()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Fall back to last known quote When the provider fails after expiry")
+    void getCryptoPrice_ReturnStaleQuote_WhenProviderFails() {
+        ReflectionTestUtils.setField(cryptoService, "cacheTtlSeconds", 0L);
+
+        server.enqueue("/simple/price?ids=bitcoin&vs_currencies=brl", 200, "{\"bitcoin\":{\"brl\":350000.0}}")
+                .enqueue("/simple/price?ids=bitcoin&vs_currencies=brl", 500, "");
+
+        cryptoService.getCryptoPrice("bitcoin", "brl");
+        Double price = cryptoService.getCryptoPrice("bitcoin", "brl");
+
+        assertThat(price).isEqualTo(350000.0);
+        assertThat(meterRegistry.get("external.api.requests").tag("client", "coingecko").tag("outcome", "SUCCESS")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("external.api.requests").tag("client", "coingecko").tag("outcome", "ERROR")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Return one close per UTC day When history is requested")
+    void getDailyCloses_ReturnOneClosePerDay_WhenHistoryRequested() {
+        server.enqueue("/coins/bitcoin/market_chart?vs_currency=brl&days=2&interval=daily", 200,
+                "{\"prices\":[[1741564800000,340000.5],[1741651200000,350000.0],[1741690000000,351000.0]]}");
+
+        Map<LocalDate, Double> closes = cryptoService.getDailyCloses("bitcoin", "BRL", 2);
+
+        assertThat(closes).containsExactly(
+                Map.entry(LocalDate.of(2025, 3, 10), 340000.5),
+                Map.entry(LocalDate.of(2025, 3, 11), 351000.0));
+    }
+}
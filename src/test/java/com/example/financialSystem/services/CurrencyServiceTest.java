@@ -0,0 +1,99 @@
+package com.example.financialSystem.services;
+
+import com.example.financialSystem.utils.BenchMarkRate;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tests for CurrencyService")
+class CurrencyServiceTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private Path snapshotFile;
+    private StubPriceServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        snapshotFile = tempDir.resolve("benchmark-rates.json");
+        server = new StubPriceServer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private CurrencyService createService() {
+        PriceProviderClient client = new PriceProviderClient(objectMapper, new SimpleMeterRegistry(),
+                1000, 2000, 1, 0, 4, 5, 30_000, ForkJoinPool.commonPool());
+        CurrencyService currencyService = new CurrencyService(objectMapper, client);
+        ReflectionTestUtils.setField(currencyService, "apiKey", "key");
+        ReflectionTestUtils.setField(currencyService, "apiUrl", server.url() + "/fetch-multi");
+        ReflectionTestUtils.setField(currencyService, "snapshotFile", snapshotFile.toString());
+        return currencyService;
+    }
+
+    @Test
+    @DisplayName("Serve rates from snapshot without calling the API When refreshed")
+    void getLiveRates_ReadSnapshot_WhenRefreshed() {
+        CurrencyService currencyService = createService();
+
+        server.enqueue("/fetch-multi", 200, "{\"base\":\"USD\",\"results\":{\"BRL\":5.1,\"EUR\":0.92,\"USD\":1.0}}");
+
+        currencyService.refreshRates();
+
+        assertThat(currencyService.getLiveRates("BRL")).isEqualTo(5.1);
+        assertThat(currencyService.getLiveRates("EUR")).isEqualTo(0.92);
+        assertThat(currencyService.getLiveRates("USD")).isEqualTo(1.0);
+        assertThat(server.requests()).containsExactly("/fetch-multi");
+    }
+
+    @Test
+    @DisplayName("Keep the last good snapshot When the API fails")
+    void refreshRates_KeepLastSnapshot_WhenApiFails() {
+        CurrencyService currencyService = createService();
+
+        server.enqueue("/fetch-multi", 200, "{\"results\":{\"BRL\":5.1}}")
+                .enqueue("/fetch-multi", 500, "");
+
+        currencyService.refreshRates();
+        currencyService.refreshRates();
+
+        assertThat(currencyService.getLiveRates("BRL")).isEqualTo(5.1);
+    }
+
+    @Test
+    @DisplayName("Load persisted snapshot on startup When file exists")
+    void loadPersistedSnapshot_RestoreRates_WhenFileExists() {
+        CurrencyService first = createService();
+        server.enqueue("/fetch-multi", 200, "{\"results\":{\"BRL\":5.1,\"USD\":1.0}}");
+        first.refreshRates();
+
+        assertThat(Files.exists(snapshotFile)).isTrue();
+
+        CurrencyService restarted = createService();
+        restarted.loadPersistedSnapshot();
+
+        assertThat(restarted.getLiveRates("BRL")).isEqualTo(5.1);
+        assertThat(restarted.getSnapshot().rates()).containsKeys(BenchMarkRate.BRL, BenchMarkRate.USD);
+    }
+}
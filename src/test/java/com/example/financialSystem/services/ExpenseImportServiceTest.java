@@ -0,0 +1,149 @@
+package com.example.financialSystem.services;
+
+import com.example.financialSystem.models.dto.requests.ExpenseRequest;
+import com.example.financialSystem.models.dto.responses.ImportResponse;
+import com.example.financialSystem.models.dto.responses.ImportRowResult;
+import com.example.financialSystem.models.entity.Expense;
+import com.example.financialSystem.models.entity.FinancialOutboxEvent;
+import com.example.financialSystem.models.entity.Login;
+import com.example.financialSystem.models.entity.User;
+import com.example.financialSystem.models.enums.ChangeType;
+import com.example.financialSystem.models.enums.ExpenseType;
+import com.example.financialSystem.models.enums.ImportRowStatus;
+import com.example.financialSystem.models.mapper.ExpenseMapperImpl;
+import com.example.financialSystem.repositories.BalanceRollupRepository;
+import com.example.financialSystem.repositories.ExpenseRepository;
+import com.example.financialSystem.repositories.FinancialOutboxRepository;
+import com.example.financialSystem.repositories.LoginRepository;
+import com.example.financialSystem.repositories.UserRepository;
+import com.example.financialSystem.utils.BenchMarkRate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("Tests for ExpenseImportService")
+class ExpenseImportServiceTest {
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LoginRepository loginRepository;
+
+    @Autowired
+    private BalanceRollupRepository balanceRollupRepository;
+
+    @Autowired
+    private FinancialOutboxRepository financialOutboxRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ExpenseImportService expenseImportService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("John", "john@gmail.com", LocalDate.of(1990, 1, 1)));
+
+        Login login = new Login();
+        login.setUser(user);
+        login.setUsername(user.getEmail());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(login, null, List.of()));
+
+        expenseImportService = new ExpenseImportService(loginRepository, expenseRepository, new ExpenseMapperImpl(),
+                Validation.buildDefaultValidatorFactory().getValidator(), entityManager,
+                new BalanceRollupService(balanceRollupRepository, transactionManager),
+                new FinancialOutboxService(financialOutboxRepository, new ObjectMapper().findAndRegisterModules()),
+                2, 100, Clock.systemUTC());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Report each row and insert only new expenses When batch mixes new, duplicate and invalid rows")
+    void importExpenses_ReportPerRowResults_WhenBatchHasMixedRows() {
+        expenseRepository.save(Expense.builder()
+                .expenseType(ExpenseType.FOOD).value(new BigDecimal("10.00")).baseCurrency(BenchMarkRate.BRL)
+                .dateFinancial(LocalDate.of(2024, 6, 1)).description("Lunch").paymentMethod("CASH")
+                .user(user).build());
+
+        ImportResponse response = expenseImportService.importExpenses(List.of(
+                request(ExpenseType.FOOD, "10", LocalDate.of(2024, 6, 1), "CASH"),
+                request(ExpenseType.TRANSPORT, "25.50", LocalDate.of(2024, 6, 2), "CARD"),
+                request(ExpenseType.TRANSPORT, "25.5", LocalDate.of(2024, 6, 2), "CARD"),
+                request(ExpenseType.FOOD, null, LocalDate.of(2024, 6, 3), "CASH"),
+                request(ExpenseType.HEALTH, "80", LocalDate.of(2024, 6, 4), "CARD"),
+                request(ExpenseType.LEISURE, "40", LocalDate.of(2024, 6, 5), "PIX")
+        ));
+
+        assertThat(response.rows()).extracting(ImportRowResult::status).containsExactly(
+                ImportRowStatus.DUPLICATE,
+                ImportRowStatus.CREATED,
+                ImportRowStatus.DUPLICATE,
+                ImportRowStatus.INVALID,
+                ImportRowStatus.CREATED,
+                ImportRowStatus.CREATED
+        );
+        assertThat(response.created()).isEqualTo(3);
+        assertThat(response.rows().get(3).message()).isEqualTo("value is required");
+        assertThat(expenseRepository.findByUserAndDeletedFalse(user)).hasSize(4);
+        assertThat(financialOutboxRepository.findAll())
+                .extracting(FinancialOutboxEvent::getChangeType)
+                .containsExactly(ChangeType.CREATED, ChangeType.CREATED, ChangeType.CREATED);
+    }
+
+    @Test
+    @DisplayName("Import CSV rows and flag unparseable ones When the file has quoted fields and bad values")
+    void importExpensesCsv_ImportValidRows_WhenSomeRowsCannotBeParsed() throws IOException {
+        String csv = """
+                expenseType,value,dateFinancial,description,baseCurrency,paymentMethod,isFixed
+                food,12.90,2024-06-01,"Lunch, with friends",BRL,CASH,false
+                FOOD,abc,2024-06-02,Dinner,BRL,CASH,false
+                HOUSING,1500,2024-06-05,Rent,brl,TRANSFER,true
+                """;
+
+        ImportResponse response = expenseImportService.importExpensesCsv(new StringReader(csv));
+
+        assertThat(response.rows()).extracting(ImportRowResult::status).containsExactly(
+                ImportRowStatus.CREATED, ImportRowStatus.INVALID, ImportRowStatus.CREATED);
+        assertThat(response.rows().get(1).message()).isEqualTo("Invalid value: abc");
+        assertThat(expenseRepository.findByUserAndDeletedFalse(user))
+                .extracting(Expense::getDescription)
+                .containsExactlyInAnyOrder("Lunch, with friends", "Rent");
+    }
+
+    private static ExpenseRequest request(ExpenseType type, String value, LocalDate date, String paymentMethod) {
+        return new ExpenseRequest(type, value != null ? new BigDecimal(value) : null, date, "Imported",
+                BenchMarkRate.BRL, paymentMethod, false);
+    }
+}
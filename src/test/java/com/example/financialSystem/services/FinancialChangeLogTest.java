@@ -0,0 +1,80 @@
+package com.example.financialSystem.services;
+
+import com.example.financialSystem.models.dto.responses.FinancialChangeEvent;
+import com.example.financialSystem.models.enums.ChangeType;
+import com.example.financialSystem.models.enums.FinancialType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tests for FinancialChangeLog")
+class FinancialChangeLogTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    private Path dir;
+
+    @Test
+    @DisplayName("Resume after the last written offset and skip replayed events When the log is reopened")
+    void accept_SkipWrittenOffsets_WhenLogIsReopened() throws IOException {
+        Path file = dir.resolve("changes.log");
+
+        FinancialChangeLog first = open(file);
+        first.accept(List.of(event(1), event(2)));
+        first.close();
+
+        FinancialChangeLog reopened = open(file);
+        assertThat(reopened.lastOffset()).isEqualTo(2);
+
+        reopened.accept(List.of(event(2), event(3)));
+        reopened.close();
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(3);
+        assertThat(lines).extracting(line -> objectMapper.readTree(line).get("offset").asLong())
+                .containsExactly(1L, 2L, 3L);
+        assertThat(objectMapper.readTree(lines.get(2)).get("payload").get("value").asInt()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Drop a partially written last line When the log is opened after a crash")
+    void open_TruncateTornTail_WhenLastLineIsIncomplete() throws IOException {
+        Path file = dir.resolve("changes.log");
+
+        FinancialChangeLog first = open(file);
+        first.accept(List.of(event(1), event(2)));
+        first.close();
+        Files.writeString(file, "{\"offset\":3,\"aggr", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        FinancialChangeLog reopened = open(file);
+        reopened.accept(List.of(event(3)));
+        reopened.close();
+
+        assertThat(Files.readAllLines(file)).hasSize(3)
+                .allSatisfy(line -> assertThat(objectMapper.readTree(line).has("changeType")).isTrue());
+    }
+
+    private FinancialChangeLog open(Path file) throws IOException {
+        FinancialChangeLog changeLog = new FinancialChangeLog(objectMapper, file.toString());
+        changeLog.open();
+        return changeLog;
+    }
+
+    private static FinancialChangeEvent event(long offset) {
+        return new FinancialChangeEvent(offset, UUID.randomUUID(), UUID.randomUUID(), FinancialType.COST,
+                ChangeType.UPDATED, Instant.parse("2026-01-01T10:00:00Z"), "{\"value\":" + offset + "}");
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.financialSystem.services;
+
+import com.example.financialSystem.models.entity.Cost;
+import com.example.financialSystem.models.entity.Expense;
+import com.example.financialSystem.models.entity.Investment;
+import com.example.financialSystem.models.entity.User;
+import com.example.financialSystem.models.enums.CostType;
+import com.example.financialSystem.models.enums.ExpenseType;
+import com.example.financialSystem.models.enums.ExportFormat;
+import com.example.financialSystem.models.enums.InvestmentType;
+import com.example.financialSystem.repositories.CostRepository;
+import com.example.financialSystem.repositories.ExpenseRepository;
+import com.example.financialSystem.repositories.InvestmentRepository;
+import com.example.financialSystem.repositories.UserRepository;
+import com.example.financialSystem.utils.BenchMarkRate;
+import com.example.financialSystem.utils.ColumnarReader;
+import com.example.financialSystem.utils.CsvParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(FinancialExportService.class)
+@DisplayName("Tests for FinancialExportService")
+class FinancialExportServiceTest {
+
+    @Autowired
+    private FinancialExportService financialExportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private CostRepository costRepository;
+
+    @Autowired
+    private InvestmentRepository investmentRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("John", "john@gmail.com", LocalDate.of(1990, 1, 1)));
+        User other = userRepository.save(new User("Mary", "mary@gmail.com", LocalDate.of(1990, 1, 1)));
+
+        expenseRepository.save(Expense.builder()
+                .expenseType(ExpenseType.FOOD).paymentMethod("PIX").isFixed(true)
+                .value(new BigDecimal("12.50")).baseCurrency(BenchMarkRate.BRL)
+                .dateFinancial(LocalDate.of(2024, 5, 3)).description("Lunch, with \"friends\"").user(user).build());
+        costRepository.save(Cost.builder()
+                .costType(CostType.FIXED).value(new BigDecimal("1200.00")).baseCurrency(BenchMarkRate.BRL)
+                .dateFinancial(LocalDate.of(2024, 6, 5)).description("Rent").user(user).deleted(true).build());
+        investmentRepository.save(Investment.builder()
+                .investmentType(InvestmentType.STOCK).brokerName("XP").actionQuantity(10)
+                .value(new BigDecimal("500.00")).baseCurrency(BenchMarkRate.USD)
+                .dateFinancial(LocalDate.of(2024, 4, 1)).description("ETF").user(user).build());
+        expenseRepository.save(Expense.builder()
+                .expenseType(ExpenseType.FOOD).paymentMethod("CARD")
+                .value(new BigDecimal("99.00")).baseCurrency(BenchMarkRate.BRL)
+                .dateFinancial(LocalDate.of(2024, 5, 3)).description("Other user").user(other).build());
+
+        expenseRepository.flush();
+    }
+
+    @Test
+    @DisplayName("export neutralizes spreadsheet formulas in text cells When format is CSV")
+    void export_PrefixesFormulaCells_WhenFormatIsCsv() throws IOException {
+        expenseRepository.saveAndFlush(Expense.builder()
+                .expenseType(ExpenseType.FOOD).paymentMethod("@SUM(A1)")
+                .value(new BigDecimal("-3.00")).baseCurrency(BenchMarkRate.BRL)
+                .dateFinancial(LocalDate.of(2024, 7, 1)).description("=HYPERLINK(\"http://x\")").user(user).build());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        financialExportService.export(user.getId(), ExportFormat.CSV, out);
+
+        String text = new String(new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())).readAllBytes(),
+                StandardCharsets.UTF_8);
+        List<Map<String, String>> csv = CsvParser.parse(new StringReader(text));
+
+        assertThat(text).contains("\"'=HYPERLINK(\"\"http://x\"\")\"", "\"'@SUM(A1)\"");
+        assertThat(csv.get(3).get("description")).isEqualTo("'=HYPERLINK(\"http://x\")");
+        assertThat(csv.get(3).get("payment_method")).isEqualTo("'@SUM(A1)");
+        assertThat(csv.get(3).get("value")).isEqualTo("-3.00");
+    }
+
+    @Test
+    @DisplayName("export writes the user's full history as gzip CSV ordered by date When format is CSV")
+    void export_WritesUserHistoryAsCsv_WhenFormatIsCsv() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = financialExportService.export(user.getId(), ExportFormat.CSV, out);
+
+        List<Map<String, String>> csv = CsvParser.parse(new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())), StandardCharsets.UTF_8));
+
+        assertThat(rows).isEqualTo(3);
+        assertThat(csv)
+                .extracting(row -> row.get("financial_type"), row -> row.get("category"),
+                        row -> row.get("value"), row -> row.get("deleted"))
+                .containsExactly(
+                        tuple("INVESTMENT", "STOCK", "500.00", "false"),
+                        tuple("EXPENSE", "FOOD", "12.50", "false"),
+                        tuple("COST", "FIXED", "1200.00", "true"));
+        assertThat(csv.get(1).get("description")).isEqualTo("Lunch, with \"friends\"");
+        assertThat(csv.get(1).get("payment_method")).isEqualTo("PIX");
+        assertThat(csv.get(0).get("broker_name")).isEqualTo("XP");
+        assertThat(csv.get(0).get("action_quantity")).isEqualTo("10");
+    }
+
+    @Test
+    @DisplayName("export writes columnar row groups readable by ColumnarReader When format is COLUMNAR")
+    void export_WritesReadableColumnarData_WhenFormatIsColumnar() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        financialExportService.export(null, ExportFormat.COLUMNAR, out);
+
+        ColumnarReader reader = new ColumnarReader(new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())));
+        List<Object[]> rows = new ArrayList<>();
+        reader.forEach(rows::add);
+
+        assertThat(reader.columns()).isEqualTo(FinancialExportService.COLUMNS);
+        assertThat(rows).hasSize(4);
+        assertThat(rows).filteredOn(row -> user.getId().equals(row[0]))
+                .extracting(row -> row[3], row -> row[5], row -> row[9], row -> row[11])
+                .containsExactly(
+                        tuple("STOCK", new BigDecimal("500.00"), null, 10),
+                        tuple("FOOD", new BigDecimal("12.50"), true, null),
+                        tuple("FIXED", new BigDecimal("1200.00"), null, null));
+    }
+}
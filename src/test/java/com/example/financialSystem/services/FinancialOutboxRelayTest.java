@@ -0,0 +1,118 @@
+package com.example.financialSystem.services;
+
+import com.example.financialSystem.models.dto.responses.ChangeFeedResponse;
+import com.example.financialSystem.models.dto.responses.FinancialChangeEvent;
+import com.example.financialSystem.models.entity.FinancialOutboxEvent;
+import com.example.financialSystem.models.enums.ChangeType;
+import com.example.financialSystem.models.enums.FinancialType;
+import com.example.financialSystem.repositories.FinancialOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({FinancialOutboxService.class, FinancialOutboxRelay.class, FinancialOutboxRelayTest.CapturingConsumer.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@TestPropertySource(properties = "outbox.relay.batch-size=2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Tests for FinancialOutboxRelay")
+class FinancialOutboxRelayTest {
+
+    @Autowired
+    private FinancialOutboxRelay financialOutboxRelay;
+
+    @Autowired
+    private FinancialOutboxService financialOutboxService;
+
+    @Autowired
+    private FinancialOutboxRepository financialOutboxRepository;
+
+    @Autowired
+    private CapturingConsumer consumer;
+
+    private final List<UUID> aggregateIds = new ArrayList<>();
+
+    static class CapturingConsumer implements FinancialChangeConsumer {
+        private final List<FinancialChangeEvent> received = new ArrayList<>();
+        private boolean failNext;
+
+        @Override
+        public long lastOffset() {
+            return received.isEmpty() ? 0 : received.get(received.size() - 1).offset();
+        }
+
+        @Override
+        public void accept(List<FinancialChangeEvent> events) {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("consumer unavailable");
+            }
+            received.addAll(events);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            UUID aggregateId = UUID.randomUUID();
+            aggregateIds.add(aggregateId);
+            financialOutboxRepository.save(new FinancialOutboxEvent(aggregateId, UUID.randomUUID(),
+                    FinancialType.EXPENSE, ChangeType.CREATED, "{\"value\":" + (i + 1) + "}", Instant.now()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        financialOutboxRepository.deleteAll();
+        consumer.received.clear();
+    }
+
+    @Test
+    @DisplayName("Publish pending events in insert order with consecutive offsets When the relay runs")
+    void publishPending_AssignConsecutiveOffsets_WhenEventsArePending() {
+        assertThat(financialOutboxRelay.publishPending()).isEqualTo(2);
+        assertThat(financialOutboxRelay.publishPending()).isEqualTo(1);
+        assertThat(financialOutboxRelay.publishPending()).isZero();
+
+        assertThat(consumer.received).extracting(FinancialChangeEvent::offset).containsExactly(1L, 2L, 3L);
+        assertThat(consumer.received).extracting(FinancialChangeEvent::aggregateId).containsExactlyElementsOf(aggregateIds);
+
+        ChangeFeedResponse feed = financialOutboxService.changesAfter(1, 10);
+
+        assertThat(feed.events()).extracting(FinancialChangeEvent::offset).containsExactly(2L, 3L);
+        assertThat(feed.events().get(0).payload()).isEqualTo("{\"value\":2}");
+        assertThat(feed.nextOffset()).isEqualTo(3);
+        assertThat(feed.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Commit offsets and redeliver them from the consumer's position When a consumer fails")
+    void publishPending_RedeliverCommittedOffsets_WhenConsumerFails() {
+        consumer.failNext = true;
+
+        assertThat(financialOutboxRelay.publishPending()).isEqualTo(2);
+        assertThat(consumer.received).isEmpty();
+        assertThat(financialOutboxService.changesAfter(0, 10).events())
+                .extracting(FinancialChangeEvent::offset).containsExactly(1L, 2L);
+
+        assertThat(financialOutboxRelay.publishPending()).isEqualTo(1);
+        assertThat(consumer.received).extracting(FinancialChangeEvent::offset).containsExactly(1L, 2L, 3L);
+        assertThat(consumer.received).extracting(FinancialChangeEvent::aggregateId).containsExactlyElementsOf(aggregateIds);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.financialSystem.services;
+
+import com.example.financialSystem.benchmarks.BenchmarkFixtures;
+import com.example.financialSystem.models.dto.responses.MonteCarloSimulationResponse;
+import com.example.financialSystem.models.dto.responses.PortfolioSimulationResponse;
+import com.example.financialSystem.models.entity.Investment;
+import com.example.financialSystem.models.enums.UserRole;
+import com.example.financialSystem.models.mapper.InvestmentMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InvestmentServiceBenchmark {
+
+    @Param({"100", "1000"})
+    private int investmentCount;
+
+    private InvestmentService investmentService;
+    private List<Investment> investments;
+    private final int[] horizons = {30, 90, 180, 365, 730, 1825};
+
+    @Setup
+    public void setUp() {
+        investmentService = new InvestmentService(null, null, new InvestmentMapperImpl(),
+                BenchmarkFixtures.stubCurrencyService(), BenchmarkFixtures.priceSeriesStore(), null, null, null,
+                new MonteCarloEngine(0, 42L, 10_000, 200_000, List.of()), null, Clock.systemUTC());
+        investments = BenchmarkFixtures.investments(investmentCount, BenchmarkFixtures.login(UserRole.USER).getUser());
+    }
+
+    @Benchmark
+    public BigDecimal calculateFutureValue() {
+        return investmentService.calculateFutureValue(BigDecimal.valueOf(10_000), 0.1075, 730);
+    }
+
+    @Benchmark
+    public List<Investment> recalculateFields() {
+        investmentService.recalculateFields(investments);
+        return investments;
+    }
+
+    @Benchmark
+    public List<BigDecimal> simulatePerCall() {
+        List<BigDecimal> values = new ArrayList<>(investments.size() * horizons.length);
+        for (Investment investment : investments) {
+            for (int days : horizons) {
+                values.add(investmentService.calculateFutureValue(investment.getValue(), 0.1075, days));
+            }
+        }
+        return values;
+    }
+
+    @Benchmark
+    public PortfolioSimulationResponse simulatePortfolioGrid() {
+        return investmentService.projectPortfolio(investments, horizons);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public MonteCarloSimulationResponse simulateRisk() {
+        return investmentService.projectRisk(investments, 365, 100_000);
+    }
+}
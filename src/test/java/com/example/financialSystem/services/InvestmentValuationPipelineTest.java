@@ -0,0 +1,119 @@
+package com.example.financialSystem.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tests for InvestmentValuationPipeline")
+class InvestmentValuationPipelineTest {
+
+    private InvestmentValuationPipeline pipeline;
+
+    @AfterEach
+    void tearDown() {
+        pipeline.shutdown();
+    }
+
+    @Test
+    @DisplayName("Return results in input order When items are split across chunks")
+    void valuate_KeepInputOrder_WhenSplitAcrossChunks() {
+        pipeline = new InvestmentValuationPipeline(4, 7, 5000);
+        List<Integer> items = IntStream.range(0, 100).boxed().toList();
+
+        List<Integer> results = pipeline.valuate(
+                items,
+                chunk -> chunk.stream().map(i -> i * 2).toList(),
+                chunk -> List.of()
+        );
+
+        assertThat(results).containsExactlyElementsOf(items.stream().map(i -> i * 2).toList());
+    }
+
+    @Test
+    @DisplayName("Use fallback for a chunk When its valuation times out")
+    void valuate_UseFallback_WhenChunkTimesOut() {
+        pipeline = new InvestmentValuationPipeline(2, 2, 50);
+        List<Integer> items = List.of(1, 2, 3, 4);
+
+        List<Integer> results = pipeline.valuate(
+                items,
+                chunk -> {
+                    if (chunk.contains(3)) {
+                        sleep(1000);
+                    }
+                    return chunk.stream().map(i -> i * 10).toList();
+                },
+                chunk -> chunk
+        );
+
+        assertThat(results).containsExactly(10, 20, 3, 4);
+    }
+
+    @Test
+    @DisplayName("Wait one timeout in total When every chunk is slow")
+    void valuate_ShareOneDeadline_WhenAllChunksAreSlow() {
+        pipeline = new InvestmentValuationPipeline(8, 1, 100);
+        List<Integer> items = IntStream.range(0, 8).boxed().toList();
+
+        long start = System.nanoTime();
+        List<Integer> results = pipeline.valuate(
+                items,
+                chunk -> {
+                    sleep(2000);
+                    return List.of();
+                },
+                chunk -> chunk
+        );
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(results).containsExactlyElementsOf(items);
+        assertThat(elapsedMs).isLessThan(500);
+    }
+
+    @Test
+    @DisplayName("Keep fallback results When a timed out chunk finishes afterwards")
+    void valuate_KeepFallbackResults_WhenTimedOutChunkFinishesLater() {
+        pipeline = new InvestmentValuationPipeline(2, 2, 50);
+        List<Integer> items = List.of(1, 2, 3, 4);
+        CountDownLatch lateChunkDone = new CountDownLatch(1);
+
+        List<Integer> results = pipeline.valuate(
+                items,
+                chunk -> {
+                    if (chunk.contains(3)) {
+                        sleep(200);
+                        lateChunkDone.countDown();
+                    }
+                    return chunk.stream().map(i -> i * 10).toList();
+                },
+                chunk -> chunk.stream().map(i -> -i).toList()
+        );
+        List<Integer> snapshot = List.copyOf(results);
+        await(lateChunkDone);
+
+        assertThat(results).containsExactly(10, 20, -3, -4).isEqualTo(snapshot);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
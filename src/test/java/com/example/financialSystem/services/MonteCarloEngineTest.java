@@ -0,0 +1,77 @@
+package com.example.financialSystem.services;
+
+import com.example.financialSystem.models.enums.InvestmentType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("Tests for MonteCarloEngine")
+class MonteCarloEngineTest {
+
+    private MonteCarloEngine engine = new MonteCarloEngine(4, 42L, 10_000, 200_000, List.of());
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    @DisplayName("simulate returns deterministic compounding when volatility is zero")
+    void simulate_ReturnsDeterministicCompounding_WhenVolatilityIsZero() {
+        double[][] outcomes = engine.simulate(new double[]{1000.0}, new double[]{0.10}, new double[]{0.0},
+                new int[]{0}, 1, 365, 1_000);
+
+        assertThat(outcomes[0]).hasSize(1_000);
+        assertThat(MonteCarloEngine.percentile(outcomes[0], 0.05)).isCloseTo(1100.0, within(1e-6));
+        assertThat(MonteCarloEngine.percentile(outcomes[0], 0.95)).isCloseTo(1100.0, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("simulate keeps the expected value at the deterministic projection when volatility is high")
+    void simulate_KeepsExpectedValue_WhenVolatilityIsHigh() {
+        double[][] outcomes = engine.simulate(new double[]{1000.0}, new double[]{0.10}, new double[]{0.6},
+                new int[]{0}, 1, 365, 100_000);
+
+        double p5 = MonteCarloEngine.percentile(outcomes[0], 0.05);
+        double p50 = MonteCarloEngine.percentile(outcomes[0], 0.50);
+        double p95 = MonteCarloEngine.percentile(outcomes[0], 0.95);
+
+        assertThat(MonteCarloEngine.mean(outcomes[0])).isCloseTo(1100.0, within(15.0));
+        assertThat(p5).isLessThan(p50);
+        assertThat(p50).isLessThan(1100.0).isLessThan(p95);
+    }
+
+    @Test
+    @DisplayName("simulate sums factors into their groups")
+    void simulate_SumsFactorsIntoGroups() {
+        double[][] outcomes = engine.simulate(new double[]{100.0, 200.0, 50.0}, new double[]{0.0, 0.0, 0.0},
+                new double[]{0.0, 0.0, 0.0}, new int[]{0, 0, 1}, 2, 30, 10);
+
+        assertThat(outcomes[0]).containsOnly(300.0);
+        assertThat(outcomes[1]).containsOnly(50.0);
+    }
+
+    @Test
+    @DisplayName("constructor applies volatility overrides per investment type")
+    void constructor_AppliesVolatilityOverrides() {
+        engine.shutdown();
+        engine = new MonteCarloEngine(1, 0L, 10, 100, List.of("CRYPTO_BTC:0.9", "invalid"));
+
+        assertThat(engine.volatilityOf(InvestmentType.CRYPTO_BTC)).isEqualTo(0.9);
+        assertThat(engine.volatilityOf(InvestmentType.TREASURY)).isEqualTo(InvestmentType.TREASURY.getVolatility());
+    }
+
+    @Test
+    @DisplayName("resolvePaths throws IllegalArgumentException when paths exceed the limit")
+    void resolvePaths_ThrowsIllegalArgumentException_WhenPathsExceedLimit() {
+        assertThat(engine.resolvePaths(null)).isEqualTo(10_000);
+        assertThatThrownBy(() -> engine.resolvePaths(200_001))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
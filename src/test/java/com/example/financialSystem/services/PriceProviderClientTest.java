@@ -0,0 +1,105 @@
+package com.example.financialSystem.services;
+
+import com.example.financialSystem.exceptions.PriceProviderException;
+import com.example.financialSystem.utils.CircuitBreaker;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Tests for PriceProviderClient")
+class PriceProviderClientTest {
+
+    private static final TypeReference<Map<String, Double>> PRICES = new TypeReference<>() {
+    };
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private StubPriceServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new StubPriceServer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private PriceProviderClient client(int maxAttempts, int maxConcurrent, int failureThreshold) {
+        return new PriceProviderClient(new ObjectMapper(), meterRegistry,
+                1000, 2000, maxAttempts, 5, maxConcurrent, failureThreshold, 60_000, ForkJoinPool.commonPool());
+    }
+
+    @Test
+    @DisplayName("getJson retries with backoff When the provider returns a server error")
+    void getJson_Retries_WhenProviderReturnsServerError() {
+        server.enqueue("/price", 503, "")
+                .enqueue("/price", 429, "")
+                .enqueue("/price", 200, "{\"btc\":1.5}");
+
+        Map<String, Double> prices = client(3, 4, 5).getJson("test", server.url() + "/price", Map.of(), PRICES);
+
+        assertThat(prices).containsEntry("btc", 1.5);
+        assertThat(server.count("/price")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("getJson does not retry When the provider rejects the request")
+    void getJson_DoesNotRetry_WhenProviderRejectsRequest() {
+        server.enqueue("/price", 400, "");
+
+        assertThatThrownBy(() -> client(3, 4, 5).getJson("test", server.url() + "/price", Map.of(), PRICES))
+                .isInstanceOf(PriceProviderException.class)
+                .hasMessageContaining("HTTP 400");
+        assertThat(server.count("/price")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("getJson short-circuits without calling the provider When the circuit is open")
+    void getJson_ShortCircuits_WhenCircuitIsOpen() {
+        PriceProviderClient client = client(1, 4, 2);
+        server.enqueue("/price", 500, "").enqueue("/price", 500, "");
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> client.getJson("test", server.url() + "/price", Map.of(), PRICES))
+                    .isInstanceOf(PriceProviderException.class);
+        }
+
+        assertThat(client.state("test")).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> client.getJson("test", server.url() + "/price", Map.of(), PRICES))
+                .hasMessageContaining("circuit is open");
+        assertThat(server.count("/price")).isEqualTo(2);
+        assertThat(meterRegistry.get("external.api.circuit.open").tag("client", "test").gauge().value())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("getJsonAsync rejects the call When the bulkhead is full")
+    void getJsonAsync_Rejects_WhenBulkheadIsFull() {
+        PriceProviderClient client = client(1, 1, 5);
+        CountDownLatch release = new CountDownLatch(1);
+        server.enqueue("/slow", 200, "{\"btc\":1.0}", release);
+
+        CompletableFuture<Map<String, Double>> first = client.getJsonAsync("test", server.url() + "/slow", Map.of(), PRICES);
+
+        assertThatThrownBy(() -> client.getJsonAsync("test", server.url() + "/slow", Map.of(), PRICES).join())
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+
+        release.countDown();
+        assertThat(first.join()).containsEntry("btc", 1.0);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.financialSystem.services;
+
+import com.example.financialSystem.utils.BenchMarkRate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tests for PriceSeriesStore")
+class PriceSeriesStoreTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+    private final String bitcoinBrl = PriceSeriesStore.cryptoKey("bitcoin", "BRL");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("closeAsOf returns the latest close on or before the date")
+    void closeAsOf_ReturnsLatestCloseOnOrBeforeDate() {
+        PriceSeriesStore store = new PriceSeriesStore(directory.toString());
+        store.record(bitcoinBrl, DAY, 100.0);
+        store.record(bitcoinBrl, DAY.plusDays(2), 120.0);
+
+        assertThat(store.closeAsOf(bitcoinBrl, DAY.minusDays(1))).isNull();
+        assertThat(store.closeAsOf(bitcoinBrl, DAY)).isEqualTo(100.0);
+        assertThat(store.closeAsOf(bitcoinBrl, DAY.plusDays(1))).isEqualTo(100.0);
+        assertThat(store.closeAsOf(bitcoinBrl, DAY.plusDays(30))).isEqualTo(120.0);
+    }
+
+    @Test
+    @DisplayName("record appends fixed-size records when days are after the last stored day")
+    void record_AppendsRecords_WhenDaysAreAfterLastStoredDay() throws Exception {
+        PriceSeriesStore store = new PriceSeriesStore(directory.toString());
+        store.record(bitcoinBrl, DAY, 100.0);
+        store.record(bitcoinBrl, new int[]{(int) DAY.plusDays(1).toEpochDay(), (int) DAY.plusDays(2).toEpochDay()},
+                new double[]{101.0, 102.0});
+
+        assertThat(Files.size(directory.resolve(bitcoinBrl + ".series"))).isEqualTo(3L * 12);
+    }
+
+    @Test
+    @DisplayName("record merges earlier and repeated days and survives a reload")
+    void record_MergesEarlierAndRepeatedDays_AndSurvivesReload() {
+        PriceSeriesStore store = new PriceSeriesStore(directory.toString());
+        String brlRate = PriceSeriesStore.rateKey(BenchMarkRate.BRL);
+        store.record(brlRate, DAY, 0.10);
+        store.record(brlRate, DAY.minusDays(5), 0.11);
+        store.record(brlRate, DAY, 0.12);
+
+        PriceSeriesStore reloaded = new PriceSeriesStore(directory.toString());
+        reloaded.load();
+
+        assertThat(reloaded.get(brlRate).size()).isEqualTo(2);
+        assertThat(reloaded.closeAsOf(brlRate, DAY.minusDays(1))).isEqualTo(0.11);
+        assertThat(reloaded.closeAsOf(brlRate, DAY)).isEqualTo(0.12);
+        assertThat(reloaded.lastDay(brlRate)).isEqualTo(DAY);
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.financialSystem.services;
+
+import com.example.financialSystem.exceptions.InvalidRefreshTokenException;
+import com.example.financialSystem.models.dto.responses.RefreshTokenResponse;
+import com.example.financialSystem.models.entity.Login;
+import com.example.financialSystem.models.entity.RefreshToken;
+import com.example.financialSystem.models.entity.User;
+import com.example.financialSystem.models.enums.UserRole;
+import com.example.financialSystem.repositories.LoginRepository;
+import com.example.financialSystem.repositories.RefreshTokenRepository;
+import com.example.financialSystem.repositories.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({RefreshTokenService.class, TokenService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Tests for RefreshTokenService")
+class RefreshTokenServiceTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LoginRepository loginRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User("Token User", "token@gmail.com", LocalDate.of(1990, 1, 1));
+        user.setUserRole(UserRole.USER);
+        user.setDeleted(false);
+
+        Login login = new Login();
+        login.setUsername(user.getEmail());
+        login.setPassword("secret");
+        login.setUser(user);
+        user.setLogin(login);
+
+        user = userRepository.save(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+        loginRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("createRefreshToken stores only the token hash and keeps earlier sessions When called twice")
+    void createRefreshToken_StoresHashAndKeepsSessions_WhenCalledTwice() {
+        String first = refreshTokenService.createRefreshToken(user.getId()).refreshToken();
+        String second = refreshTokenService.createRefreshToken(user.getId()).refreshToken();
+
+        List<RefreshToken> tokens = refreshTokenRepository.findAll();
+
+        assertThat(tokens).hasSize(2);
+        assertThat(tokens).extracting(RefreshToken::getTokenHash)
+                .containsExactlyInAnyOrder(RefreshTokenService.hash(first), RefreshTokenService.hash(second))
+                .doesNotContain(first, second);
+        assertThat(tokens.get(0).getFamilyId()).isNotEqualTo(tokens.get(1).getFamilyId());
+    }
+
+    @Test
+    @DisplayName("rotate returns a new refresh token in the same family When the token is fresh")
+    void rotate_ReturnsNewTokenInSameFamily_WhenTokenIsFresh() {
+        String issued = refreshTokenService.createRefreshToken(user.getId()).refreshToken();
+
+        RefreshTokenResponse rotated = refreshTokenService.rotate(issued);
+
+        RefreshToken previous = refreshTokenRepository.findById(RefreshTokenService.hash(issued)).orElseThrow();
+        RefreshToken next = refreshTokenRepository.findById(RefreshTokenService.hash(rotated.refreshToken())).orElseThrow();
+
+        assertThat(rotated.refreshToken()).isNotEqualTo(issued);
+        assertThat(rotated.accessToken()).isNotBlank();
+        assertThat(rotated.tokenType()).isEqualTo("Bearer");
+        assertThat(previous.getUsedAt()).isNotNull();
+        assertThat(next.getUsedAt()).isNull();
+        assertThat(next.getFamilyId()).isEqualTo(previous.getFamilyId());
+    }
+
+    @Test
+    @DisplayName("rotate revokes the whole family When a rotated token is presented again")
+    void rotate_RevokesFamily_WhenRotatedTokenIsReused() {
+        String issued = refreshTokenService.createRefreshToken(user.getId()).refreshToken();
+        String other = refreshTokenService.createRefreshToken(user.getId()).refreshToken();
+        String rotated = refreshTokenService.rotate(issued).refreshToken();
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(issued))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        assertThat(refreshTokenRepository.findById(RefreshTokenService.hash(rotated)).orElseThrow().isRevoked())
+                .isTrue();
+        assertThat(refreshTokenRepository.findById(RefreshTokenService.hash(other)).orElseThrow().isRevoked())
+                .isFalse();
+        assertThatThrownBy(() -> refreshTokenService.rotate(rotated))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+    }
+
+    @Test
+    @DisplayName("rotate throws without deleting the row When the token is expired")
+    void rotate_ThrowsWithoutDeleting_WhenTokenIsExpired() {
+        String issued = refreshTokenService.createRefreshToken(user.getId()).refreshToken();
+        expire(issued);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(issued))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+        assertThat(refreshTokenRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("sweepExpired deletes only expired tokens When run")
+    void sweepExpired_DeletesOnlyExpiredTokens_WhenRun() {
+        String expired = refreshTokenService.createRefreshToken(user.getId()).refreshToken();
+        String active = refreshTokenService.createRefreshToken(user.getId()).refreshToken();
+        expire(expired);
+
+        assertThat(refreshTokenService.sweepExpired()).isEqualTo(1);
+        assertThat(refreshTokenRepository.findAll()).extracting(RefreshToken::getTokenHash)
+                .containsExactly(RefreshTokenService.hash(active));
+    }
+
+    @Test
+    @DisplayName("revokeAllForUser rejects every outstanding token When the user is deactivated")
+    void revokeAllForUser_RejectsOutstandingTokens_WhenUserDeactivated() {
+        String first = refreshTokenService.createRefreshToken(user.getId()).refreshToken();
+        String second = refreshTokenService.createRefreshToken(user.getId()).refreshToken();
+
+        assertThat(refreshTokenService.revokeAllForUser(user.getId())).isEqualTo(2);
+        assertThatThrownBy(() -> refreshTokenService.rotate(first))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+        assertThatThrownBy(() -> refreshTokenService.rotate(second))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+    }
+
+    private void expire(String token) {
+        RefreshToken refreshToken = refreshTokenRepository.findById(RefreshTokenService.hash(token)).orElseThrow();
+        refreshToken.setExpiryDate(Instant.now().minusSeconds(60));
+        refreshTokenRepository.save(refreshToken);
+    }
+}
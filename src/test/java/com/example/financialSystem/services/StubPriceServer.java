@@ -0,0 +1,87 @@
+package com.example.financialSystem.services;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+
+class StubPriceServer implements AutoCloseable {
+
+    record Reply(int status, String body, CountDownLatch release) {
+    }
+
+    private final HttpServer server;
+    private final Map<String, Deque<Reply>> replies = new ConcurrentHashMap<>();
+    private final List<String> requests = Collections.synchronizedList(new ArrayList<>());
+
+    StubPriceServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    StubPriceServer enqueue(String pathAndQuery, int status, String body) {
+        return enqueue(pathAndQuery, status, body, null);
+    }
+
+    StubPriceServer enqueue(String pathAndQuery, int status, String body, CountDownLatch release) {
+        replies.computeIfAbsent(pathAndQuery, key -> new ArrayDeque<>()).add(new Reply(status, body, release));
+        return this;
+    }
+
+    List<String> requests() {
+        return List.copyOf(requests);
+    }
+
+    long count(String pathAndQuery) {
+        return requests().stream().filter(pathAndQuery::equals).count();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String pathAndQuery = exchange.getRequestURI().toString();
+        requests.add(pathAndQuery);
+
+        Deque<Reply> queue = replies.get(pathAndQuery);
+        Reply reply;
+        synchronized (this) {
+            reply = queue == null || queue.isEmpty() ? new Reply(404, "", null) : queue.poll();
+        }
+
+        if (reply.release() != null) {
+            try {
+                reply.release().await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        byte[] body = reply.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(reply.status(), body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.financialSystem.services;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.example.financialSystem.models.entity.Login;
+import com.example.financialSystem.models.entity.User;
+import com.example.financialSystem.models.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tests for TokenService")
+class TokenServiceTest {
+
+    @Test
+    @DisplayName("Accept tokens of the previous key When the secret is rotated through previous-keys")
+    void verifyToken_AcceptPreviousKey_WhenSecretIsRotated() {
+        String oldToken = new TokenService("first-secret", "k1", List.of()).generateToken(login());
+
+        TokenService rotated = new TokenService("second-secret", "k2", List.of("k1:first-secret"));
+        String newToken = rotated.generateToken(login());
+
+        assertThat(JWT.decode(newToken).getKeyId()).isEqualTo("k2");
+        assertThat(rotated.validateToken(oldToken)).isEqualTo("ana@gmail.com");
+        assertThat(rotated.validateToken(newToken)).isEqualTo("ana@gmail.com");
+
+        TokenService retired = new TokenService("second-secret", "k2", List.of());
+
+        assertThat(retired.validateToken(oldToken)).isNull();
+        assertThat(retired.validateToken(newToken)).isEqualTo("ana@gmail.com");
+    }
+
+    @Test
+    @DisplayName("Reject tokens When the key id is unknown or the token has no key id and a foreign secret")
+    void verifyToken_ReturnNull_WhenKeyIsUnknown() {
+        TokenService tokenService = new TokenService("secret", "primary", List.of("old:legacy-secret"));
+
+        String unknownKid = JWT.create().withKeyId("other").withIssuer("auth-api").withSubject("ana@gmail.com")
+                .sign(Algorithm.HMAC256("secret"));
+        String legacy = JWT.create().withIssuer("auth-api").withSubject("ana@gmail.com")
+                .sign(Algorithm.HMAC256("legacy-secret"));
+        String foreign = JWT.create().withIssuer("auth-api").withSubject("ana@gmail.com")
+                .sign(Algorithm.HMAC256("foreign-secret"));
+
+        assertThat(tokenService.verifyToken(unknownKid)).isNull();
+        assertThat(tokenService.validateToken(legacy)).isEqualTo("ana@gmail.com");
+        assertThat(tokenService.verifyToken(foreign)).isNull();
+        assertThat(tokenService.verifyToken("not-a-token")).isNull();
+    }
+
+    private static Login login() {
+        User user = new User("Ana", "ana@gmail.com", null);
+        user.setId(UUID.randomUUID());
+        user.setUserRole(UserRole.USER);
+
+        Login login = new Login();
+        login.setUser(user);
+        login.setUsername("ana@gmail.com");
+        return login;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.financialSystem.utils;
+
+import com.example.financialSystem.utils.ColumnarWriter.Column;
+import com.example.financialSystem.utils.ColumnarWriter.ColumnType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tests for ColumnarWriter")
+class ColumnarWriterTest {
+
+    private static final List<Column> COLUMNS = List.of(
+            new Column("id", ColumnType.UUID),
+            new Column("label", ColumnType.STRING),
+            new Column("day", ColumnType.DATE),
+            new Column("amount", ColumnType.DECIMAL),
+            new Column("flag", ColumnType.BOOLEAN),
+            new Column("quantity", ColumnType.INT),
+            new Column("at", ColumnType.TIMESTAMP)
+    );
+
+    @Test
+    @DisplayName("write round trips every type and null When rows span several row groups")
+    void write_RoundTripsValues_WhenRowsSpanSeveralGroups() throws IOException {
+        List<Object[]> written = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            written.add(new Object[]{
+                    UUID.randomUUID(),
+                    i % 7 == 0 ? null : "label-" + i,
+                    LocalDate.of(2024, 1, 1).plusDays(i),
+                    new BigDecimal(i + ".25"),
+                    i % 3 == 0,
+                    i % 5 == 0 ? null : i,
+                    LocalDateTime.of(2024, 1, 1, 10, 30, 15, 123_456_000).plusMinutes(i)
+            });
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ColumnarWriter writer = new ColumnarWriter(out, COLUMNS, 300)) {
+            for (Object[] row : written) {
+                writer.write(row);
+            }
+        }
+
+        ColumnarReader reader = new ColumnarReader(new ByteArrayInputStream(out.toByteArray()));
+        List<Object[]> read = new ArrayList<>();
+
+        assertThat(reader.forEach(read::add)).isEqualTo(1000);
+        assertThat(reader.columns()).isEqualTo(COLUMNS);
+        assertThat(read).zipSatisfy(written, (actual, expected) -> assertThat(actual).containsExactly(expected));
+    }
+
+    @Test
+    @DisplayName("write stores repeated strings once per row group When a column has low cardinality")
+    void write_DictionaryEncodesStrings_WhenColumnHasLowCardinality() throws IOException {
+        List<Column> columns = List.of(new Column("category", ColumnType.STRING));
+        String category = "A-LONG-CATEGORY-NAME-THAT-REPEATS";
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ColumnarWriter writer = new ColumnarWriter(out, columns, 4096)) {
+            for (int i = 0; i < 4096; i++) {
+                writer.write(new Object[]{category});
+            }
+        }
+
+        assertThat(out.size()).isLessThan(4096 * 2);
+    }
+}
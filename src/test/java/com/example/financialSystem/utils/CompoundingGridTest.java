@@ -0,0 +1,45 @@
+package com.example.financialSystem.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("Tests for CompoundingGrid")
+class CompoundingGridTest {
+
+    @Test
+    @DisplayName("project matches per-call daily compounding for every position and horizon")
+    void project_MatchesDailyCompounding_ForEveryPositionAndHorizon() {
+        double[] principals = {1000.0, 2500.0, 1000.0};
+        double[] rates = {0.10, 0.08, 0.10};
+        int[] horizons = {30, 365, 1825};
+
+        double[] grid = CompoundingGrid.project(principals, rates, horizons);
+
+        assertThat(grid).hasSize(principals.length * horizons.length);
+        for (int i = 0; i < principals.length; i++) {
+            for (int h = 0; h < horizons.length; h++) {
+                double dailyRate = Math.pow(1 + rates[i], 1.0 / 365) - 1;
+                double expected = principals[i] * Math.pow(1 + dailyRate, horizons[h]);
+
+                assertThat(grid[i * horizons.length + h]).isCloseTo(expected, within(1e-6));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("project keeps principal unchanged when rate is zero")
+    void project_KeepsPrincipal_WhenRateIsZero() {
+        double[] grid = CompoundingGrid.project(new double[]{500.0}, new double[]{0.0}, new int[]{90, 365});
+
+        assertThat(grid).containsExactly(500.0, 500.0);
+    }
+
+    @Test
+    @DisplayName("project returns empty grid when there are no positions")
+    void project_ReturnsEmptyGrid_WhenThereAreNoPositions() {
+        assertThat(CompoundingGrid.project(new double[0], new double[0], new int[]{30})).isEmpty();
+    }
+}